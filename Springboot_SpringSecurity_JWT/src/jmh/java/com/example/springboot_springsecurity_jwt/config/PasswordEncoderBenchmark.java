@@ -0,0 +1,53 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordEncoder 벤치마크
+ * 로그인마다 실행되는 matches 의 알고리즘/비용별 소요 시간 측정 (password.encoder 설정값 선택에 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    // "알고리즘:비용" :: bcrypt 는 strength, argon2 는 iterations(메모리 16MB), pbkdf2 는 iterations
+    @Param({"bcrypt:4", "bcrypt:10", "bcrypt:12", "argon2:2", "pbkdf2:310000"})
+    public String encoder;
+
+    private static final String RAW_PASSWORD = "benchmark-password";
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        String[] spec = encoder.split(":");
+        int cost = Integer.parseInt(spec[1]);
+        passwordEncoder = switch (spec[0]) {
+            case "bcrypt" -> new BCryptPasswordEncoder(cost);
+            case "argon2" -> new Argon2PasswordEncoder(16, 32, 1, 16384, cost);
+            case "pbkdf2" -> new Pbkdf2PasswordEncoder("", 16, cost, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            default -> throw new IllegalArgumentException("지원하지 않는 알고리즘입니다: " + spec[0]);
+        };
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.springboot_springsecurity_jwt.filter;
+
+import com.example.springboot_springsecurity_jwt.cache.AccessTokenCache;
+import com.example.springboot_springsecurity_jwt.service.BenchmarkTokens;
+import com.example.springboot_springsecurity_jwt.service.RedisService;
+import com.example.springboot_springsecurity_jwt.service.TokenRefreshService;
+import com.example.springboot_springsecurity_jwt.service.TokenRevocationService;
+import com.example.springboot_springsecurity_jwt.service.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * TokenAuthenticationFilter 벤치마크
+ * Mock 요청/응답으로 doFilterInternal 한 번의 처리량과 할당량 측정
+ * Redis 는 mock 으로 대체하며 (폐기 목록 Bloom filter 는 실제 구현 사용), 재발급은 즉시 새 토큰을 반환하도록 설정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenAuthenticationFilterBenchmark {
+
+    // valid: 유효한 토큰, expired: 만료되어 재발급, missing: 토큰 없음
+    @Param({"valid", "expired", "missing"})
+    public String scenario;
+
+    // 검증된 토큰의 인증 정보 캐시 사용 여부
+    @Param({"false", "true"})
+    public boolean accessTokenCacheEnabled;
+
+    private TokenAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain filterChain = (servletRequest, servletResponse) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        TokenService tokenService = BenchmarkTokens.tokenService();
+        TokenRefreshService tokenRefreshService = mock(TokenRefreshService.class);
+        when(tokenRefreshService.refreshAccessToken(any(), anyString(), anyLong(), anyLong()))
+                .thenReturn(tokenService.makeAccessToken(BenchmarkTokens.MEMBER_ID, BenchmarkTokens.SESSION_ID, BenchmarkTokens.AUTHORITIES));
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(mock(RedisService.class), null, 1_000_000, 0.001);
+        AccessTokenCache accessTokenCache = accessTokenCacheEnabled ? new AccessTokenCache(10_000) : null;
+        filter = new TokenAuthenticationFilter(tokenService, tokenRefreshService, tokenRevocationService, accessTokenCache, new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest("GET", "/api/member/sessions");
+        switch (scenario) {
+            case "valid" -> request.addHeader("Authorization", "Bearer " + tokenService.makeAccessToken(BenchmarkTokens.MEMBER_ID, BenchmarkTokens.SESSION_ID, BenchmarkTokens.AUTHORITIES));
+            case "expired" -> request.addHeader("Authorization", "Bearer " + BenchmarkTokens.expiredAccessToken());
+            default -> {
+            }
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void doFilterInternal() throws ServletException, IOException {
+        filter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext(); // 요청이 끝날 때 Spring Security 가 하는 정리와 같음
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * 벤치마크 공용 토큰 준비 클래스
+ * Spring 컨텍스트 없이 application.yml 과 같은 길이의 secret 으로 TokenService 를 만들고 초기화
+ */
+public final class BenchmarkTokens {
+
+    public static final String ISSUER = "benchmark";
+    public static final Long MEMBER_ID = 1L;
+    public static final String SESSION_ID = "benchSession";
+    public static final long AUTHORITIES = Authority.USER;
+
+    // HS512 서명에 필요한 64바이트 이상 secret
+    private static final String ACCESS_SECRET = "benchmark-access-secret-benchmark-access-secret-benchmark-access-secret";
+    private static final String REFRESH_SECRET = "benchmark-refresh-secret-benchmark-refresh-secret-benchmark-refresh-secret";
+
+    private BenchmarkTokens() {
+    }
+
+    public static TokenService tokenService() {
+        return tokenService(SigningKeyRing.Algorithm.HS512);
+    }
+
+    // AccessToken 서명 알고리즘을 지정한 TokenService :: ES256, EdDSA 는 임시 키 쌍으로 서명
+    public static TokenService tokenService(SigningKeyRing.Algorithm algorithm) {
+        SigningKeyRing signingKeyRing = new SigningKeyRing(algorithm.name(), ACCESS_SECRET, "", "", "", new ObjectMapper());
+        signingKeyRing.init();
+
+        TokenService tokenService = new TokenService(new SimpleMeterRegistry(), signingKeyRing); // 운영과 같이 Timer 기록 비용 포함
+        ReflectionTestUtils.setField(tokenService, "issuer", ISSUER);
+        ReflectionTestUtils.setField(tokenService, "refreshSecretKey", REFRESH_SECRET);
+        ReflectionTestUtils.setField(tokenService, "accessTokenExpireTime", 600_000L);
+        tokenService.init();
+        return tokenService;
+    }
+
+    // 서명은 유효하지만 이미 만료된 AccessToken :: 필터의 재발급 경로 측정에 사용
+    public static String expiredAccessToken() {
+        Date past = new Date(System.currentTimeMillis() - 60_000);
+        return Jwts.builder()
+                .issuer(ISSUER)
+                .subject(String.valueOf(MEMBER_ID))
+                .issuedAt(new Date(past.getTime() - 600_000))
+                .expiration(past)
+                .claim("id", MEMBER_ID)
+                .claim(TokenService.SESSION_ID_CLAIM, SESSION_ID)
+                .claim(TokenService.AUTHORITIES_CLAIM, AUTHORITIES)
+                .id("expired-token-id")
+                .signWith(Keys.hmacShaKeyFor(ACCESS_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenService 벤치마크
+ * 요청마다 실행되는 토큰 생성, 검증, 인증 정보 생성의 처리량과 연산당 할당량 측정
+ * AccessToken 서명 알고리즘(HS512, ES256, EdDSA)별로 측정하여 비대칭 서명 전환 비용 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenServiceBenchmark {
+
+    @Param({"HS512", "ES256", "EdDSA"})
+    private SigningKeyRing.Algorithm algorithm;
+
+    private TokenService tokenService;
+    private String accessToken;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        tokenService = BenchmarkTokens.tokenService(algorithm);
+        accessToken = tokenService.makeAccessToken(BenchmarkTokens.MEMBER_ID, BenchmarkTokens.SESSION_ID, BenchmarkTokens.AUTHORITIES);
+        claims = tokenService.verifyAccessToken(accessToken).getClaims();
+    }
+
+    @Benchmark
+    public String makeAccessToken() {
+        return tokenService.makeAccessToken(BenchmarkTokens.MEMBER_ID, BenchmarkTokens.SESSION_ID, BenchmarkTokens.AUTHORITIES);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return tokenService.validateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims getClaims() {
+        return tokenService.getClaims(accessToken, true);
+    }
+
+    // 토큰을 다시 파싱하여 인증 정보 생성
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenService.getAuthentication(accessToken);
+    }
+
+    // 필터처럼 이미 검증한 Claims 로 인증 정보 생성 (파싱 없음)
+    @Benchmark
+    public Authentication getAuthenticationFromClaims() {
+        return tokenService.getAuthentication(claims, accessToken);
+    }
+}
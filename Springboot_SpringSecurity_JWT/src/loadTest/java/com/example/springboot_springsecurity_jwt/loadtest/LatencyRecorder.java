@@ -0,0 +1,82 @@
+package com.example.springboot_springsecurity_jwt.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 지연 시간 기록 :: HdrHistogram 으로 p50/p99/p999 를 정확하게 계산
+ * 측정 시작 전(워밍업)의 요청은 기록하지 않음
+ */
+class LatencyRecorder {
+
+    // 1µs ~ 1분, 유효 숫자 3자리
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    private volatile long measureStartNanos = Long.MAX_VALUE;
+    private volatile long measureEndNanos = Long.MAX_VALUE;
+
+    void startMeasuring() {
+        measureStartNanos = System.nanoTime();
+    }
+
+    void stopMeasuring() {
+        measureEndNanos = System.nanoTime();
+    }
+
+    void record(String endpoint, long startNanos, boolean success) {
+        long endNanos = System.nanoTime();
+        if (startNanos < measureStartNanos || endNanos > measureEndNanos) {
+            return;
+        }
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+            return;
+        }
+        long micros = Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos)));
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(MAX_MICROS, 3)).recordValue(micros);
+    }
+
+    // 콘솔에 표로 출력하고 CSV 로 저장
+    void report(PrintStream out, Path reportDir) throws IOException {
+        double seconds = (measureEndNanos - measureStartNanos) / 1_000_000_000.0;
+        StringBuilder csv = new StringBuilder("endpoint,count,throughput_per_sec,p50_ms,p99_ms,p999_ms,max_ms,errors\n");
+
+        out.printf("%n%-14s %9s %10s %9s %9s %9s %9s %7s%n", "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+        Map<String, Histogram> sorted = new TreeMap<>(histograms);
+        errors.keySet().forEach(endpoint -> sorted.putIfAbsent(endpoint, new Histogram(MAX_MICROS, 3)));
+        sorted.forEach((endpoint, histogram) -> {
+            long count = histogram.getTotalCount();
+            long errorCount = errors.getOrDefault(endpoint, new AtomicLong()).get();
+            double throughput = count / seconds;
+            double p50 = millis(histogram.getValueAtPercentile(50));
+            double p99 = millis(histogram.getValueAtPercentile(99));
+            double p999 = millis(histogram.getValueAtPercentile(99.9));
+            double max = millis(histogram.getMaxValue());
+            out.printf("%-14s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %7d%n", endpoint, count, throughput, p50, p99, p999, max, errorCount);
+            csv.append(String.format("%s,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%d%n", endpoint, count, throughput, p50, p99, p999, max, errorCount));
+        });
+        out.printf("측정 구간 %.1f초%n", seconds);
+
+        Files.createDirectories(reportDir);
+        Path summary = reportDir.resolve("summary.csv");
+        Files.writeString(summary, csv, StandardCharsets.UTF_8);
+        out.println("결과 저장: " + summary.toAbsolutePath());
+    }
+
+    private double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.springboot_springsecurity_jwt.loadtest;
+
+import com.example.springboot_springsecurity_jwt.SpringbootSpringSecurityJwtApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 실행 클래스
+ * 외부 서비스 없이 내장 Redis 와 H2(MariaDB 모드)로 애플리케이션을 띄우고,
+ * 가상 사용자들이 회원가입/로그인/인증 요청/재발급/로그아웃을 섞어 보낸 뒤 엔드포인트별 처리량과 지연 시간 분포를 출력
+ * 실행: ./gradlew loadTest -Dloadtest.users=50 -Dloadtest.duration-seconds=60
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(SpringbootSpringSecurityJwtApplication.class)
+                    .profiles(settings.profiles())
+                    .run("--server.port=0", "--spring.data.redis.port=" + redisPort);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            LatencyRecorder recorder = run(settings, "http://localhost:" + port);
+            recorder.report(System.out, Path.of(settings.reportDir()));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            redisServer.stop();
+        }
+    }
+
+    private static LatencyRecorder run(LoadTestSettings settings, String baseUrl) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        long deadline = measureStart + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+
+        System.out.printf("부하 테스트 시작: 사용자 %d명, 워밍업 %d초, 측정 %d초, 프로필 %s%n",
+                settings.users(), settings.warmupSeconds(), settings.durationSeconds(), String.join(",", settings.profiles()));
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            executor.submit(new VirtualUser(httpClient, objectMapper, baseUrl, settings, recorder, deadline));
+        }
+
+        // 워밍업이 끝나면 기록 시작, 종료 시각이 되면 기록 중단 (진행 중인 요청은 집계하지 않음)
+        TimeUnit.NANOSECONDS.sleep(measureStart - System.nanoTime());
+        recorder.startMeasuring();
+        TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+        recorder.stopMeasuring();
+
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        return recorder;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
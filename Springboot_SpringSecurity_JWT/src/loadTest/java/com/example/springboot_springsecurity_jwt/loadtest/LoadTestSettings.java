@@ -0,0 +1,31 @@
+package com.example.springboot_springsecurity_jwt.loadtest;
+
+/**
+ * 부하 테스트 설정 :: -Dloadtest.* 시스템 속성으로 변경
+ *
+ * @param users           동시에 요청을 보내는 가상 사용자 수
+ * @param warmupSeconds   측정에서 제외하는 초기 구간
+ * @param durationSeconds 측정 구간
+ * @param callsPerLogin   로그인 한 번마다 보내는 인증 요청 수 (이후 로그아웃 후 다시 로그인)
+ * @param thinkMillis     인증 요청 사이의 대기 시간
+ * @param profiles        loadtest 와 함께 활성화할 프로필 (예: virtual)
+ * @param reportDir       결과 CSV 를 저장할 디렉터리
+ */
+record LoadTestSettings(int users, int warmupSeconds, int durationSeconds, int callsPerLogin, long thinkMillis,
+                        String[] profiles, String reportDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        String extraProfiles = System.getProperty("loadtest.profiles", "");
+        String[] profiles = extraProfiles.isBlank()
+                ? new String[]{"loadtest"}
+                : ("loadtest," + extraProfiles).split(",");
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.warmup-seconds", 10),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Integer.getInteger("loadtest.calls-per-login", 30),
+                Long.getLong("loadtest.think-millis", 100L),
+                profiles,
+                System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+    }
+}
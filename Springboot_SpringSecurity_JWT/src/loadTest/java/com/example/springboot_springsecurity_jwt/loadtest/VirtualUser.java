@@ -0,0 +1,125 @@
+package com.example.springboot_springsecurity_jwt.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 사용자 한 명의 요청 흐름
+ * 회원가입 1회 후, 로그인 -> 인증 요청 N회 -> 로그아웃을 종료 시각까지 반복
+ * 인증 요청 중 AccessToken 이 만료되면 서버가 New-Access-Token 헤더로 재발급하며, 해당 요청은 refresh 로 집계
+ */
+class VirtualUser implements Runnable {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final String PASSWORD = "loadtest-password";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final LatencyRecorder recorder;
+    private final long deadlineNanos;
+
+    VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, LoadTestSettings settings,
+                LatencyRecorder recorder, long deadlineNanos) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.recorder = recorder;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+        String email = "u" + SEQUENCE.incrementAndGet() + "@load.io"; // email 컬럼 길이(20자) 이내
+        try {
+            if (!signup(email)) {
+                return;
+            }
+            while (System.nanoTime() < deadlineNanos) {
+                String accessToken = login(email);
+                if (accessToken == null) {
+                    continue;
+                }
+                for (int i = 0; i < settings.callsPerLogin() && System.nanoTime() < deadlineNanos; i++) {
+                    accessToken = authenticatedCall(accessToken);
+                    Thread.sleep(settings.thinkMillis());
+                }
+                logout(accessToken);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean signup(String email) throws InterruptedException {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"name\":\"load\"}";
+        HttpResponse<String> response = send("signup", post("/api/member/signup", body, null));
+        return response != null && response.statusCode() == 200;
+    }
+
+    private String login(String email) throws InterruptedException {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> response = send("login", post("/api/member/login", body, null));
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(response.body());
+            return json.path("accessToken").asText(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 인증이 필요한 요청 :: 재발급된 토큰이 있으면 이후 요청에 사용
+    private String authenticatedCall(String accessToken) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/member/sessions"))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = sendQuietly(request);
+        String newAccessToken = response != null ? response.headers().firstValue("New-Access-Token").orElse(null) : null;
+        recorder.record(newAccessToken != null ? "refresh" : "authenticated", start, response != null && response.statusCode() == 200);
+        return newAccessToken != null ? newAccessToken : accessToken;
+    }
+
+    private void logout(String accessToken) throws InterruptedException {
+        send("logout", post("/api/member/logout", "", accessToken));
+    }
+
+    private HttpRequest post(String path, String body, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = sendQuietly(request);
+        recorder.record(endpoint, start, response != null && response.statusCode() == 200);
+        return response;
+    }
+
+    // 연결 오류는 실패로만 집계하고 계속 진행
+    private HttpResponse<String> sendQuietly(HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -21,6 +21,8 @@ public class QMember extends EntityPathBase<Member> {
 
     public final com.example.springboot_springsecurity_jwt.util.QBaseEntity _super = new com.example.springboot_springsecurity_jwt.util.QBaseEntity(this);
 
+    public final NumberPath<Long> authorities = createNumber("authorities", Long.class);
+
     //inherited
     public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
 
@@ -0,0 +1,109 @@
+package com.example.springboot_springsecurity_jwt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccessTokenCache 클래스
+ * 이미 검증된 AccessToken 의 인증 정보를 메모리에 보관하여 같은 토큰의 반복 검증을 생략
+ * 키는 토큰 원문이 아닌 SHA-256 digest 를 사용하고, 각 항목은 토큰의 exp 시각을 넘겨 살아있지 않음
+ * jwt.access-token-cache.enabled=true 인 경우에만 등록됨
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.access-token-cache.enabled", havingValue = "true")
+public class AccessTokenCache implements MeterBinder {
+
+    private final Cache<String, CachedAuthentication> cache;
+
+    public AccessTokenCache(@Value("${jwt.access-token-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize) // 최대 항목 수 제한 (초과 시 빈도 기반으로 제거)
+                .expireAfter(new TokenExpiry()) // 항목마다 토큰의 exp 에 맞춰 만료
+                .recordStats() // 적중률, 제거 횟수 기록
+                .build();
+    }
+
+    // 캐시된 인증 정보 조회 :: 없거나 토큰이 만료되었으면 null
+    public CachedAuthentication get(String token) {
+        CachedAuthentication cached = cache.getIfPresent(digest(token));
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtMillis() <= System.currentTimeMillis()) { // 만료 직후 아직 정리되지 않은 항목 방어
+            return null;
+        }
+        return cached;
+    }
+
+    // 검증이 끝난 토큰의 인증 정보를 exp 시각까지 저장
+    // jti 는 캐시 적중 시에도 폐기 여부를 확인할 수 있도록 함께 보관
+    public void put(String token, Authentication authentication, String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(digest(token), new CachedAuthentication(authentication, jti, expiresAtMillis));
+    }
+
+    // 적중률, 제거 횟수 등 캐시 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 현재 캐시에 담긴 항목 수 (근사값)
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 적중/미스, 제거 횟수, 크기를 cache.* 메트릭으로 노출 (recordStats 값을 읽기만 하므로 조회 경로에 추가 비용 없음)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "access-token");
+    }
+
+    // 토큰 원문 대신 SHA-256 digest 를 키로 사용 (키 크기 고정, 메모리에 토큰 원문을 키로 남기지 않음)
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public record CachedAuthentication(Authentication authentication, String jti, long expiresAtMillis) {
+    }
+
+    // 항목의 수명을 토큰의 남은 유효 시간으로 설정
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration; // 조회로 수명이 늘어나지 않음
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.springboot_springsecurity_jwt.cache;
+
+import com.example.springboot_springsecurity_jwt.service.RedisService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RefreshTokenNearCache 클래스
+ * Redis 의 세션 해시(SESS:{memberId})를 각 노드 메모리에 보관하여 토큰 재발급 시 세션 조회의 네트워크 왕복을 생략
+ * 세션 해시를 변경한 노드가 pub/sub 채널로 key 를 알리면 모든 노드가 해당 항목을 제거
+ * 항목의 수명은 Redis 에 남은 만료 시간과 max-ttl 중 짧은 쪽을 따름
+ * jwt.refresh-token-near-cache.enabled=true 인 경우에만 등록됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token-near-cache.enabled", havingValue = "true")
+public class RefreshTokenNearCache implements MessageListener, MeterBinder {
+
+    // 무효화 알림 채널 :: 메시지는 줄바꿈으로 구분된 key 목록
+    public static final String INVALIDATION_CHANNEL = "near-cache:rt:invalidate";
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, CachedValue> cache;
+    private final long maxTtlMillis;
+
+    // 무효화 알림을 받을 때마다 증가 :: Redis 조회 중 무효화가 끼어들면 오래된 값을 저장하지 않기 위해 사용
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    public RefreshTokenNearCache(RedisService redisService,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 @Value("${jwt.refresh-token-near-cache.max-size:100000}") long maxSize,
+                                 @Value("${jwt.refresh-token-near-cache.max-ttl-millis:60000}") long maxTtlMillis) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.maxTtlMillis = maxTtlMillis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize) // 메모리 사용량 제한
+                .expireAfter(new RedisTtlExpiry()) // 항목마다 Redis 만료 시간을 따름
+                .recordStats() // 적중/미스 횟수 기록
+                .build();
+    }
+
+    // 무효화 채널 구독
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 로컬에 있으면 바로 반환, 없으면 HGETALL 과 PTTL 을 한 번의 파이프라인으로 조회 후 저장
+    // key 가 없으면 빈 Map 반환
+    @SuppressWarnings("unchecked")
+    public Map<String, String> get(String key) {
+        CachedValue cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.value();
+        }
+
+        long sequence = invalidationSequence.get();
+        List<Object> results = redisService.executePipelined(operations -> {
+            operations.opsForHash().entries(key);
+            operations.getExpire(key, TimeUnit.MILLISECONDS);
+        });
+        Map<String, String> value = results.get(0) instanceof Map<?, ?> entries
+                ? Map.copyOf((Map<String, String>) entries) // 캐시에 담긴 값이 바뀌지 않도록 불변 복사본 사용
+                : Map.of();
+        Long ttlMillis = (Long) results.get(1);
+
+        // 값이 없거나 만료 시간이 없는 key 는 저장하지 않고, 조회 중 무효화가 있었다면 저장하지 않음
+        if (!value.isEmpty() && ttlMillis != null && ttlMillis > 0 && invalidationSequence.get() == sequence) {
+            long expiresAtMillis = System.currentTimeMillis() + Math.min(ttlMillis, maxTtlMillis);
+            cache.put(key, new CachedValue(value, expiresAtMillis));
+        }
+        return value;
+    }
+
+    // key 변경을 모든 노드에 알림 (이 노드의 항목은 즉시 제거)
+    public void invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        evict(keys);
+        redisService.publish(INVALIDATION_CHANNEL, toMessage(keys));
+    }
+
+    // 무효화 메시지 본문 생성 :: 파이프라인 안에서 직접 발행할 때 사용
+    public static String toMessage(Collection<String> keys) {
+        return String.join("\n", keys);
+    }
+
+    // 무효화 알림 수신 시 해당 key 제거 (자신이 보낸 알림도 수신됨)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        evict(List.of(body.split("\n")));
+    }
+
+    // 로컬에서만 제거
+    public void evict(Collection<String> keys) {
+        invalidationSequence.incrementAndGet();
+        cache.invalidateAll(keys);
+    }
+
+    // 적중률, 제거 횟수 등 캐시 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 현재 캐시에 담긴 항목 수 (근사값)
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 적중/미스, 제거 횟수, 크기를 cache.* 메트릭으로 노출 (recordStats 값을 읽기만 하므로 조회 경로에 추가 비용 없음)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "refresh-token-near");
+    }
+
+    private record CachedValue(Map<String, String> value, long expiresAtMillis) {
+    }
+
+    // 항목의 수명을 저장 시 계산한 만료 시각까지로 설정
+    private static class RedisTtlExpiry implements Expiry<String, CachedValue> {
+        @Override
+        public long expireAfterCreate(String key, CachedValue value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedValue value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedValue value, long currentTime, long currentDuration) {
+            return currentDuration; // 조회로 수명이 늘어나지 않음
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import com.example.springboot_springsecurity_jwt.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 첫 관리자 지정 :: 시작 시 authority.admin-emails 에 있는 "이미 가입된" 회원에게 관리자 권한 부여
+ * 가입 시에는 email 소유를 확인하지 않으므로 가입 단계에서 관리자 권한을 주지 않음
+ * (관리자가 가입하기 전에 다른 사람이 같은 email 로 가입하면 관리자 권한을 가져가는 문제 방지)
+ * email 은 대소문자를 구분하지 않고 비교 (email 유니크 인덱스와 같음)
+ * 이미 발급된 토큰에는 반영되지 않으므로 권한을 받은 회원은 다시 로그인해야 함
+ * reactive 프로필에는 JPA 가 없으므로 서블릿 프로필로 실행한 노드에서 처리
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class AdminAccountInitializer implements ApplicationRunner {
+    private final MemberRepository memberRepository;
+
+    @Value("${authority.admin-emails:}")
+    private Set<String> adminEmails;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<String> emails = adminEmails.stream()
+                .filter(StringUtils::hasText)
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        if (emails.isEmpty()) {
+            return;
+        }
+        int promoted = memberRepository.grantAuthoritiesByEmails(emails, Authority.ADMIN);
+        log.info("관리자 권한 부여: 대상 email {}개, 권한이 바뀐 회원 {}명", emails.size(), promoted);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA Auditing 설정 클래스
+ * BaseEntity 의 createdAt, updatedAt 자동 기록
+ * reactive 프로필은 JPA 를 사용하지 않으므로 등록하지 않음
+ */
+@Configuration
+@Profile("!reactive")
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -0,0 +1,172 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 암호화 설정 클래스
+ * 알고리즘(bcrypt, argon2, pbkdf2)과 비용을 application.yml 로 선택하고,
+ * 해싱 작업을 요청 스레드와 분리된 전용 스레드 풀에서 실행하도록 설정
+ */
+@Slf4j
+@Configuration
+public class PasswordConfig {
+
+    // 새 비밀번호를 암호화할 알고리즘 (bcrypt | argon2 | pbkdf2)
+    @Value("${password.encoder.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${password.encoder.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.encoder.argon2-iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${password.encoder.argon2-memory-kb:16384}")
+    private int argon2MemoryKb;
+
+    @Value("${password.encoder.pbkdf2-iterations:310000}")
+    private int pbkdf2Iterations;
+
+    // 0 보다 크면 시작 시 한 번의 해싱이 이 시간(ms)에 가깝도록 비용을 자동 조정
+    @Value("${password.encoder.calibrate-target-millis:0}")
+    private long calibrateTargetMillis;
+
+    @Value("${password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${password.hashing.queue-capacity:100}")
+    private int hashingQueueCapacity;
+
+    // 회원 일괄 등록용 해싱 스레드 수 (0 이면 CPU 코어 수의 절반)
+    @Value("${password.hashing.import-threads:0}")
+    private int importHashingThreads;
+
+    // 비밀번호 암호화를 위한 PasswordEncoder 빈 등록
+    // 저장된 값의 {id} 접두사로 알고리즘을 구분하며, 접두사가 없는 기존 값은 BCrypt 로 검증
+    // 설정한 알고리즘이나 비용과 다른 값은 upgradeEncoding() 이 true 를 반환하여 로그인 시 다시 암호화됨
+    // (bcrypt 는 strength, argon2 는 파라미터를 저장된 값에서 비교하고, pbkdf2 는 반복 횟수를 함께 저장하여 비교)
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        if (calibrateTargetMillis > 0) {
+            calibrate();
+        }
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("argon2", argon2Encoder(argon2Iterations));
+        encoders.put("pbkdf2", new Pbkdf2IterationsPasswordEncoder(pbkdf2Iterations, this::pbkdf2Encoder));
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 암호화 알고리즘입니다: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt")); // 접두사 없는 기존 BCrypt 값 검증
+        log.info("비밀번호 암호화 알고리즘: {} (bcrypt-strength={}, argon2-iterations={}, pbkdf2-iterations={})",
+                algorithm, bcryptStrength, argon2Iterations, pbkdf2Iterations);
+        return passwordEncoder;
+    }
+
+    // 비밀번호 해싱 전용 스레드 풀
+    // 대기열이 가득 차면 기다리지 않고 즉시 거절하여 로그인 폭주가 요청 스레드를 모두 점유하지 않도록 함
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashingQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 회원 일괄 등록용 해싱 스레드 풀 :: 로그인용 스레드 풀과 분리하여 대량 등록 중에도 로그인 해싱 자원을 남겨둠
+    // 대기열이 가득 차면 제출한 스레드가 직접 해싱하여 등록 속도를 자연스럽게 늦춤 (거절 없음)
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor importHashingExecutor() {
+        int threads = importHashingThreads > 0 ? importHashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "import-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 현재 장비에서 한 번의 해싱이 목표 시간을 넘지 않는 가장 큰 비용 선택
+    // 설정한 비용이 하한 :: 느린 노드에서도 설정값보다 약하게 암호화하지 않음
+    private void calibrate() {
+        switch (algorithm) {
+            case "bcrypt" -> {
+                // bcrypt 는 strength 가 1 오를 때마다 시간이 두 배가 되므로 목표를 넘기 직전까지 올림
+                int strength = bcryptStrength;
+                while (strength < 31 && measureMillis(new BCryptPasswordEncoder(strength + 1)) <= calibrateTargetMillis) {
+                    strength++;
+                }
+                logCalibrated("bcrypt-strength", bcryptStrength, strength);
+                bcryptStrength = strength;
+            }
+            case "argon2" -> {
+                int iterations = scaleIterations(argon2Iterations, measureMillis(argon2Encoder(argon2Iterations)));
+                logCalibrated("argon2-iterations", argon2Iterations, iterations);
+                argon2Iterations = iterations;
+            }
+            case "pbkdf2" -> {
+                int iterations = scaleIterations(pbkdf2Iterations, measureMillis(pbkdf2Encoder(pbkdf2Iterations)));
+                logCalibrated("pbkdf2-iterations", pbkdf2Iterations, iterations);
+                pbkdf2Iterations = iterations;
+            }
+            default -> {
+                // 알 수 없는 알고리즘은 passwordEncoder() 에서 거절
+            }
+        }
+    }
+
+    // argon2, pbkdf2 는 반복 횟수에 비례하여 시간이 늘어나므로 측정값으로 선형 보정 (설정값 미만으로는 내리지 않음)
+    private int scaleIterations(int iterations, long measuredMillis) {
+        long scaled = iterations * calibrateTargetMillis / Math.max(1, measuredMillis);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(iterations, scaled));
+    }
+
+    private void logCalibrated(String name, int configured, int calibrated) {
+        if (calibrated != configured) {
+            log.info("비밀번호 해싱 비용 보정: {} {} -> {} (목표 {}ms)", name, configured, calibrated, calibrateTargetMillis);
+        }
+    }
+
+    // JIT 예열 후 한 번의 encode 시간 측정
+    private long measureMillis(PasswordEncoder encoder) {
+        encoder.encode("calibration-warmup");
+        long start = System.nanoTime();
+        encoder.encode("calibration-password");
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private PasswordEncoder argon2Encoder(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, argon2MemoryKb, iterations);
+    }
+
+    private PasswordEncoder pbkdf2Encoder(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * 반복 횟수를 함께 저장하는 PBKDF2 PasswordEncoder
+ * Pbkdf2PasswordEncoder 의 결과(salt + hash 의 hex)에는 반복 횟수가 없어 upgradeEncoding() 이 항상 false 이고,
+ * 반복 횟수를 바꾸면 기존 값을 검증할 수도 없으므로 "<반복 횟수>$<hex>" 형식으로 저장
+ * - matches : 저장된 반복 횟수로 검증
+ * - upgradeEncoding : 저장된 반복 횟수가 현재 설정보다 적으면 true (로그인 시 다시 암호화)
+ *   bcrypt, argon2 와 같이 비용을 올릴 때만 다시 암호화하므로 노드마다 보정된 값이 달라도 매 로그인마다 다시 암호화하지 않음
+ * 반복 횟수가 없는 기존 값은 현재 반복 횟수로 검증하고 다시 암호화 대상으로 처리
+ */
+public class Pbkdf2IterationsPasswordEncoder implements PasswordEncoder {
+
+    private static final char SEPARATOR = '$';
+
+    private final int iterations;
+    private final IntFunction<PasswordEncoder> encoderFactory;
+    // 반복 횟수 -> encoder :: 저장된 값에 쓰인 반복 횟수의 종류만큼만 생성됨
+    private final Map<Integer, PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    public Pbkdf2IterationsPasswordEncoder(int iterations, IntFunction<PasswordEncoder> encoderFactory) {
+        this.iterations = iterations;
+        this.encoderFactory = encoderFactory;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return iterations + String.valueOf(SEPARATOR) + encoder(iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return encoder(iterations).matches(rawPassword, encodedPassword); // 반복 횟수가 없는 기존 값
+        }
+        Integer storedIterations = parseIterations(encodedPassword.substring(0, separator));
+        return storedIterations != null
+                && encoder(storedIterations).matches(rawPassword, encodedPassword.substring(separator + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return true; // 반복 횟수가 없는 기존 값
+        }
+        Integer storedIterations = parseIterations(encodedPassword.substring(0, separator));
+        return storedIterations == null || storedIterations < iterations;
+    }
+
+    private PasswordEncoder encoder(int iterations) {
+        return encoders.computeIfAbsent(iterations, encoderFactory::apply);
+    }
+
+    private static Integer parseIterations(String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -5,12 +5,15 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 /**
  * QueryDSL 설정 클래스
  * QueryDSL을 사용하기 위해 JPAQueryFactory를 빈으로 등록함.
+ * JPA 는 서블릿 스택에서만 사용하므로 reactive 프로필에서는 등록하지 않음
  */
 @Configuration
+@Profile("!reactive")
 public class QueryDslConfig {
     @PersistenceContext
     private EntityManager entityManager;
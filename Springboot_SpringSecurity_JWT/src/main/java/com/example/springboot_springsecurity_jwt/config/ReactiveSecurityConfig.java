@@ -0,0 +1,98 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import com.example.springboot_springsecurity_jwt.filter.ReactiveLoginRateLimitFilter;
+import com.example.springboot_springsecurity_jwt.filter.ReactiveTokenAuthenticationFilter;
+import com.example.springboot_springsecurity_jwt.service.RateLimitService;
+import com.example.springboot_springsecurity_jwt.service.SessionService;
+import com.example.springboot_springsecurity_jwt.service.TokenRevocationService;
+import com.example.springboot_springsecurity_jwt.service.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+/**
+ * WebFlux Security 설정 클래스 (reactive 프로필)
+ * WebSecurityConfig 와 같은 접근 규칙을 SecurityWebFilterChain 으로 정의하고
+ * TokenAuthenticationFilter 대신 ReactiveTokenAuthenticationFilter 사용
+ */
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final SessionService sessionService;
+    private final RateLimitService rateLimitService;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    // HTTP 보안 설정 정의
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                // CSRF 보호 비활성화 (JWT는 상태가 없으므로 CSRF 보호가 필요 없음)
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+
+                // 세션에 인증 정보를 저장하지 않음
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+                // CORS 설정 추가
+                .cors(cors -> cors.configurationSource(reactiveCorsConfigurationSource()))
+
+                // 인증되지 않은 요청은 서블릿 버전과 같이 403 응답
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+
+                // HTTP 요청에 대한 보안 설정 정의
+                .authorizeExchange(exchange -> exchange
+                        // 다음 엔드포인트는 인증 없이 접근 허용
+                        .pathMatchers("/api/member/signup").permitAll()
+                        .pathMatchers("/api/member/login").permitAll()
+                        // AccessToken 검증용 공개 키 목록 (다른 서비스가 토큰을 직접 검증할 때 사용)
+                        .pathMatchers("/.well-known/jwks.json").permitAll()
+                        // 메트릭 수집(health, prometheus) :: 관리 포트(management.server.port)는 내부망에서만 접근하도록 구성
+                        .pathMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // 그 외 모든 엔드포인트는 인증 필요
+                        .anyExchange().authenticated()
+                )
+
+                // 로그인, 회원가입 요청 횟수 제한 필터를 인증 필터보다 먼저 실행
+                .addFilterBefore(new ReactiveLoginRateLimitFilter(rateLimitService), SecurityWebFiltersOrder.AUTHENTICATION)
+
+                // JWT 인증 필터 추가
+                .addFilterAt(new ReactiveTokenAuthenticationFilter(tokenService, tokenRevocationService, sessionService, reactiveStringRedisTemplate),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    // CORS 설정 정의
+    @Bean
+    public CorsConfigurationSource reactiveCorsConfigurationSource() {
+        // CORS 설정 객체 생성
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.addAllowedOrigin("http://localhost");
+        configuration.addAllowedOrigin("http://localhost:3000");
+        configuration.addAllowedMethod("*");
+        configuration.addAllowedHeader("*");
+
+        // 특정 URL 패턴에 대해 CORS 설정 등록
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+
+        return source;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Redis circuit breaker 설정 클래스
+ * 최근 호출 중 실패 또는 느린 호출(slow-call-millis 초과) 비율이 임계값을 넘으면 breaker 를 열어
+ * Redis 를 기다리지 않고 바로 실패시킴 (요청 스레드가 Redis 응답 대기로 쌓이지 않도록 함)
+ * 상태는 resilience4j.circuitbreaker.state{name="redis"} 메트릭으로 노출
+ */
+@Slf4j
+@Configuration
+public class RedisCircuitBreakerConfig {
+
+    // 실패율, 느린 호출 비율을 계산할 최근 호출 수
+    @Value("${redis.circuit-breaker.sliding-window-size:100}")
+    private int slidingWindowSize;
+
+    // 비율을 계산하기 시작하는 최소 호출 수
+    @Value("${redis.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${redis.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    // 이 시간보다 오래 걸린 호출은 느린 호출로 집계
+    @Value("${redis.circuit-breaker.slow-call-millis:200}")
+    private long slowCallMillis;
+
+    @Value("${redis.circuit-breaker.slow-call-rate-threshold:50}")
+    private float slowCallRateThreshold;
+
+    // 열린 뒤 다시 시험 호출을 허용할 때까지의 시간
+    @Value("${redis.circuit-breaker.open-millis:5000}")
+    private long openMillis;
+
+    // 반쯤 열린 상태에서 허용하는 시험 호출 수
+    @Value("${redis.circuit-breaker.half-open-calls:10}")
+    private int halfOpenCalls;
+
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMillis))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(openMillis))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true) // 호출이 없어도 시간이 지나면 반쯤 열린 상태로 전환
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry); // 상태, 호출 수, 실패율 메트릭
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("redis");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Redis circuit breaker 상태 변경: {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+}
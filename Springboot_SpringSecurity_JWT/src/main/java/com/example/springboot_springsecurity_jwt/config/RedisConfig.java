@@ -1,48 +1,102 @@
 package com.example.springboot_springsecurity_jwt.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Redis 설정 클래스
  * Redis 연결을 위한 설정을 정의하고 redisTemplate를 빈으로 등록
+ * LettuceConnectionFactory 는 ReactiveRedisConnectionFactory 도 구현하므로 reactiveStringRedisTemplate 도 자동 구성됨
+ *
+ * 구성 방식은 spring.data.redis.* 설정으로 결정 (코드 변경 없이 전환)
+ * - cluster.nodes 가 있으면 Cluster
+ * - sentinel.master 가 있으면 Sentinel
+ * - 그 외에는 단일 노드 (redis.replica-nodes 가 있으면 고정 master/replica 구성)
+ * redis.read-from 을 지정하면 세션 조회 전용 replicaRedisTemplate 이 replica 로 읽기를 보냄
  */
+@Slf4j
 @Configuration
 public class RedisConfig {
 
-    // application.yml 에서 Redis 설정 값 주입
-    @Value(value = "${spring.data.redis.host}")
-    private String host;
+    // 명령 응답 제한 시간 기본값 :: 느린 Redis 가 요청 스레드를 무한정 붙잡지 않도록 함
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
 
-    @Value(value = "${spring.data.redis.port}")
-    private int port;
+    private final RedisProperties redisProperties;
+    private final ClientResources clientResources;
+
+    // 단일 노드 구성에서 읽기를 보낼 replica 목록 (host:port, 쉼표로 구분)
+    @Value("${redis.replica-nodes:}")
+    private List<String> replicaNodes;
+
+    // 세션 조회의 읽기 대상 (replicaPreferred, replica, lowestLatency 등 Lettuce ReadFrom 이름)
+    @Value("${redis.read-from:}")
+    private String readFrom;
+
+    // 가상 스레드 사용 여부 (virtual 프로필) :: 직접 등록한 리스너 컨테이너에는 Boot 설정이 적용되지 않으므로 여기서 반영
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // Boot 가 만든 ClientResources 를 사용하여 Lettuce 명령 지연 시간 메트릭(lettuce.command.*)이 기록되도록 함
+    public RedisConfig(RedisProperties redisProperties, ClientResources clientResources) {
+        this.redisProperties = redisProperties;
+        this.clientResources = clientResources;
+    }
 
     /**
      * RedisConnectionFactory 빈 등록
-     * Redis에 연결하기 위한 팩토리 객체 생성
+     * Redis에 연결하기 위한 팩토리 객체 생성 :: 쓰기와 일관성이 필요한 읽기(락, 폐기 목록, 스크립트)는 항상 master 로 전송
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        // RedisStandaloneConfiguration: 단일 노드 Redis 구성 설정
-        final RedisStandaloneConfiguration standaloneConfiguration = new RedisStandaloneConfiguration(host, port);
-
-        // LettuceClientConfiguration: Lettuce 클라이언트 구성 설정
-        final LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
-                .commandTimeout(Duration.ZERO)
-                .shutdownTimeout(Duration.ZERO)
-                .build();
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory() {
+        RedisConfiguration configuration = redisConfiguration();
+        log.info("Redis 구성: {}", configuration.getClass().getSimpleName());
+        return new LettuceConnectionFactory(configuration, clientConfiguration(null));
+    }
 
-        // LettuceConnectionFactory: Lettuce 기반 Redis 연결 팩토리 생성
-        return new LettuceConnectionFactory(standaloneConfiguration, clientConfiguration);
+    /**
+     * 세션 조회 전용 RedisConnectionFactory 빈 등록 (redis.read-from 을 지정한 경우에만)
+     * 단일 노드 구성에서는 Lettuce 가 master 의 복제 정보(INFO replication)로 replica 를 찾음
+     */
+    @Bean
+    @ConditionalOnProperty(name = "redis.read-from")
+    public LettuceConnectionFactory replicaRedisConnectionFactory() {
+        return new LettuceConnectionFactory(redisConfiguration(), clientConfiguration(ReadFrom.valueOf(readFrom)));
     }
 
     /**
@@ -50,11 +104,162 @@ public class RedisConfig {
      * Redis에서 데이터를 읽고 쓰기 위한 템플릿 설정
      */
     @Bean
+    @Primary
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return createRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * 세션 조회 전용 RedisTemplate 빈 등록
+     * redis.read-from 을 지정하지 않으면 기본 연결을 그대로 사용
+     */
+    @Bean
+    public RedisTemplate<String, Object> replicaRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            @Qualifier("replicaRedisConnectionFactory") ObjectProvider<RedisConnectionFactory> replicaRedisConnectionFactory) {
+        return createRedisTemplate(replicaRedisConnectionFactory.getIfAvailable(() -> redisConnectionFactory));
+    }
+
+    /**
+     * RedisMessageListenerContainer 빈 등록
+     * pub/sub 채널 구독을 위한 컨테이너 (near-cache 무효화 알림 수신 등)
+     * 가상 스레드를 사용하면 메시지 처리도 가상 스레드에서 실행
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
+        return container;
+    }
+
+    private RedisTemplate<String, Object> createRedisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setConnectionFactory(connectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer()); // 세션 해시의 필드와 값도 문자열로 저장
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    // spring.data.redis.* 설정에 맞는 구성 생성
+    private RedisConfiguration redisConfiguration() {
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        if (cluster != null && !cluster.getNodes().isEmpty()) {
+            RedisClusterConfiguration configuration = new RedisClusterConfiguration(cluster.getNodes());
+            if (cluster.getMaxRedirects() != null) {
+                configuration.setMaxRedirects(cluster.getMaxRedirects());
+            }
+            configuration.setUsername(redisProperties.getUsername());
+            configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+            return configuration;
+        }
+
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        if (sentinel != null && StringUtils.hasText(sentinel.getMaster())) {
+            RedisSentinelConfiguration configuration = new RedisSentinelConfiguration();
+            configuration.master(sentinel.getMaster());
+            sentinel.getNodes().forEach(node -> configuration.sentinel(RedisNode.fromString(node)));
+            configuration.setSentinelUsername(sentinel.getUsername());
+            configuration.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+            configuration.setUsername(redisProperties.getUsername());
+            configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+            configuration.setDatabase(redisProperties.getDatabase());
+            return configuration;
+        }
+
+        if (!replicaNodes.isEmpty()) {
+            // 고정 master/replica 구성 :: master 를 첫 번째 노드로 두고 replica 를 추가
+            RedisStaticMasterReplicaConfiguration configuration =
+                    new RedisStaticMasterReplicaConfiguration(redisProperties.getHost(), redisProperties.getPort());
+            replicaNodes.stream().filter(StringUtils::hasText).map(RedisNode::fromString)
+                    .forEach(node -> configuration.node(node.getHost(), node.getPort()));
+            configuration.setUsername(redisProperties.getUsername());
+            configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+            configuration.setDatabase(redisProperties.getDatabase());
+            return configuration;
+        }
+
+        // RedisStandaloneConfiguration: 단일 노드 Redis 구성 설정
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        configuration.setUsername(redisProperties.getUsername());
+        configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        configuration.setDatabase(redisProperties.getDatabase());
+        return configuration;
+    }
+
+    // LettuceClientConfiguration: Lettuce 클라이언트 구성 설정 (readFrom 이 null 이면 master 에서 읽음)
+    private LettuceClientConfiguration clientConfiguration(ReadFrom readFrom) {
+        Duration commandTimeout = redisProperties.getTimeout() != null ? redisProperties.getTimeout() : DEFAULT_COMMAND_TIMEOUT;
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+
+        // 공유 연결 하나로 대부분의 명령을 처리하고, pool 은 트랜잭션/블로킹 명령처럼 연결을 점유하는 경우에만 사용
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = Boolean.TRUE.equals(pool.getEnabled())
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(pool))
+                : LettuceClientConfiguration.builder();
+
+        builder.clientResources(clientResources)
+                .clientOptions(clientOptions())
+                .commandTimeout(commandTimeout)
+                .shutdownTimeout(redisProperties.getLettuce().getShutdownTimeout());
+        if (redisProperties.getSsl().isEnabled()) {
+            builder.useSsl();
+        }
+        if (StringUtils.hasText(redisProperties.getClientName())) {
+            builder.clientName(redisProperties.getClientName());
+        }
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+        return builder.build();
+    }
+
+    private ClientOptions clientOptions() {
+        Duration connectTimeout = redisProperties.getConnectTimeout() != null ? redisProperties.getConnectTimeout() : DEFAULT_CONNECT_TIMEOUT;
+        SocketOptions socketOptions = SocketOptions.builder().connectTimeout(connectTimeout).keepAlive(true).build();
+
+        // 연결이 끊긴 동안 명령을 쌓아두지 않고 바로 실패시킴 :: 재연결은 백그라운드에서 계속 시도
+        // TimeoutOptions.enabled() :: 파이프라인, reactive 명령에도 commandTimeout 적용
+        if (redisProperties.getCluster() != null && !redisProperties.getCluster().getNodes().isEmpty()) {
+            RedisProperties.Lettuce.Cluster.Refresh refresh = redisProperties.getLettuce().getCluster().getRefresh();
+            ClusterTopologyRefreshOptions.Builder refreshOptions = ClusterTopologyRefreshOptions.builder()
+                    .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+            if (refresh.getPeriod() != null) {
+                refreshOptions.enablePeriodicRefresh(refresh.getPeriod()); // 노드 추가/장애 조치 후 slot 배치 주기적 갱신
+            }
+            if (refresh.isAdaptive()) {
+                refreshOptions.enableAllAdaptiveRefreshTriggers(); // MOVED, 재연결 등이 발생하면 즉시 갱신
+            }
+            return ClusterClientOptions.builder()
+                    .topologyRefreshOptions(refreshOptions.build())
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(TimeoutOptions.enabled())
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .build();
+        }
+        return ClientOptions.builder()
+                .socketOptions(socketOptions)
+                .timeoutOptions(TimeoutOptions.enabled())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        if (pool.getMaxWait() != null) {
+            config.setMaxWait(pool.getMaxWait()); // 연결을 기다리는 최대 시간 :: 무한 대기 방지
+        }
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return config;
+    }
 }
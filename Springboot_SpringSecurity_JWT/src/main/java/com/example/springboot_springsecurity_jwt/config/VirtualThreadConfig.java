@@ -0,0 +1,24 @@
+package com.example.springboot_springsecurity_jwt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 가상 스레드(virtual 프로필) 실행 환경 확인
+ * Java 21 미만에서는 spring.threads.virtual.enabled 가 경고 없이 무시되어 플랫폼 스레드로 실행되므로,
+ * 의도와 다른 구성으로 측정하거나 운영하지 않도록 시작 단계에서 실패시킴
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    private static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadConfig() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("virtual 프로필은 Java " + MIN_JAVA_VERSION + " 이상이 필요합니다 (현재 Java " + javaVersion
+                    + "). ./gradlew bootRun -PjavaVersion=21 로 실행하세요.");
+        }
+    }
+}
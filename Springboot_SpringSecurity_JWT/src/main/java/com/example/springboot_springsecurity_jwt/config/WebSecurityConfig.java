@@ -1,43 +1,77 @@
 package com.example.springboot_springsecurity_jwt.config;
 
+import com.example.springboot_springsecurity_jwt.cache.AccessTokenCache;
+import com.example.springboot_springsecurity_jwt.filter.LoginRateLimitFilter;
 import com.example.springboot_springsecurity_jwt.filter.TokenAuthenticationFilter;
+import com.example.springboot_springsecurity_jwt.service.RateLimitService;
+import com.example.springboot_springsecurity_jwt.service.TokenRefreshService;
+import com.example.springboot_springsecurity_jwt.service.TokenRevocationService;
 import com.example.springboot_springsecurity_jwt.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Spring Security 설정 클래스
  * 보안 관련 설정 및 JWT 기반 인증 필터 설정 정의
+ * 메서드 단위 권한(@PreAuthorize)은 AccessToken 의 권한 비트마스크로 만든 공유 권한 목록으로 확인
  */
 @Configuration
+@Profile("!reactive")
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class WebSecurityConfig {
     private final TokenService tokenService;
+    private final TokenRefreshService tokenRefreshService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ObjectProvider<AccessTokenCache> accessTokenCache;
+    private final RateLimitService rateLimitService;
+    private final MeterRegistry meterRegistry;
 
-    // 비밀번호 암호화를 위한 PasswordEncoder 빈 등록
-    // BCrypt 알고리즘 사용
+    // JWT 인증 필터 등록
+    // 캐시는 jwt.access-token-cache.enabled=true 인 경우에만 주입됨
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public TokenAuthenticationFilter tokenAuthenticationFilter() {
+        return new TokenAuthenticationFilter(tokenService, tokenRefreshService, tokenRevocationService, accessTokenCache.getIfAvailable(), meterRegistry);
     }
 
-    // JWT 인증 필터 등록
+    // 필터 빈이 서블릿 필터로도 자동 등록되어 요청마다 두 번 실행되지 않도록 Security 필터 체인에서만 사용
     @Bean
-    public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenService);
+    public FilterRegistrationBean<TokenAuthenticationFilter> tokenAuthenticationFilterRegistration(TokenAuthenticationFilter filter) {
+        FilterRegistrationBean<TokenAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    // 로그인, 회원가입 요청 횟수 제한 필터 등록
+    @Bean
+    public LoginRateLimitFilter loginRateLimitFilter() {
+        return new LoginRateLimitFilter(rateLimitService);
+    }
+
+    // Security 필터 체인에서만 실행되도록 서블릿 필터 자동 등록 해제
+    @Bean
+    public FilterRegistrationBean<LoginRateLimitFilter> loginRateLimitFilterRegistration(LoginRateLimitFilter filter) {
+        FilterRegistrationBean<LoginRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     // HTTP 보안 설정 정의
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   TokenAuthenticationFilter tokenAuthenticationFilter,
+                                                   LoginRateLimitFilter loginRateLimitFilter) throws Exception {
         http
                 // CSRF 보호 비활성화 (JWT는 상태가 없으므로 CSRF 보호가 필요 없음)
                 .csrf(csrf -> csrf.disable())
@@ -50,12 +84,23 @@ public class WebSecurityConfig {
                         // 다음 엔드포인트는 인증 없이 접근 허용
                         .requestMatchers("/api/member/signup").permitAll()
                         .requestMatchers("/api/member/login").permitAll()
+                        // AccessToken 검증용 공개 키 목록 (다른 서비스가 토큰을 직접 검증할 때 사용)
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
+                        // 토큰 조회 :: 사용자 토큰이 아닌 서버 간 secret(X-Introspection-Secret)으로 인증
+                        .requestMatchers("/api/token/introspect").permitAll()
+                        // 메트릭 수집(health, prometheus) :: 관리 포트(management.server.port)는 내부망에서만 접근하도록 구성
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // 관리자 엔드포인트는 ADMIN 권한 필요
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // 그 외 모든 엔드포인트는 인증 필요
                         .anyRequest().authenticated()
                 )
 
+                // 로그인, 회원가입 요청 횟수 제한 필터를 인증 필터보다 먼저 실행
+                .addFilterBefore(loginRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+
                 // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 앞에 추가
-                .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(tokenAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
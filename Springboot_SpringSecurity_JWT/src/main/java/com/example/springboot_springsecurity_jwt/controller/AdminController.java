@@ -0,0 +1,82 @@
+package com.example.springboot_springsecurity_jwt.controller;
+
+import com.example.springboot_springsecurity_jwt.dto.AuthorityUpdateRequest;
+import com.example.springboot_springsecurity_jwt.dto.CacheStatsResponse;
+import com.example.springboot_springsecurity_jwt.dto.MemberFileFormat;
+import com.example.springboot_springsecurity_jwt.dto.RevokeTokensRequest;
+import com.example.springboot_springsecurity_jwt.service.AdminService;
+import com.example.springboot_springsecurity_jwt.service.CacheStatsService;
+import com.example.springboot_springsecurity_jwt.service.MemberExportService;
+import com.example.springboot_springsecurity_jwt.service.MemberImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+
+@Slf4j
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    private final AdminService adminService;
+    private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
+    private final CacheStatsService cacheStatsService;
+
+    // 모든 엔드포인트는 ADMIN 역할(WebSecurityConfig)과 함께 작업별 세부 권한 필요
+    // 권한은 AccessToken 의 auth 클레임에서 읽으므로 DB 조회 없이 확인
+
+    // 여러 회원의 리프레시 토큰 일괄 폐기
+    @PreAuthorize("hasAuthority('TOKEN_REVOKE')")
+    @PostMapping("/tokens/revoke")
+    public ResponseEntity<String> revokeRefreshTokens(@RequestBody RevokeTokensRequest revokeTokensRequest) {
+        return adminService.revokeRefreshTokens(revokeTokensRequest);
+    }
+
+    // 회원 일괄 등록 :: 요청 본문(NDJSON 또는 CSV)을 스트리밍으로 읽고, 실패한 행과 요약을 NDJSON 으로 응답
+    @PreAuthorize("hasAuthority('MEMBER_IMPORT')")
+    @PostMapping(value = "/members/import", consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    public void importMembers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MemberFileFormat.NDJSON.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        memberImportService.importMembers(request.getInputStream(), MemberFileFormat.from(contentType), response.getOutputStream());
+    }
+
+    // 회원 전체 내보내기 :: DB 커서로 읽은 행을 바로 응답에 기록 (format=ndjson | csv)
+    @PreAuthorize("hasAuthority('MEMBER_EXPORT')")
+    @GetMapping("/members/export")
+    public void exportMembers(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+        MemberFileFormat fileFormat = MemberFileFormat.from(format);
+        response.setContentType(fileFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"members." + fileFormat.name().toLowerCase() + "\"");
+        memberExportService.exportMembers(fileFormat, response.getOutputStream());
+    }
+
+    // 캐시 적중률 (토큰 캐시)
+    @PreAuthorize("hasAuthority('CACHE_READ')")
+    @GetMapping("/cache/stats")
+    public List<CacheStatsResponse> getCacheStats() {
+        return cacheStatsService.getCacheStats();
+    }
+
+    // 회원 권한 변경 (변경 후 해당 회원의 모든 세션 종료)
+    @PreAuthorize("hasAuthority('MEMBER_WRITE')")
+    @PutMapping("/members/{memberId}/authorities")
+    public ResponseEntity<String> updateAuthorities(@PathVariable Long memberId,
+                                                    @RequestBody AuthorityUpdateRequest authorityUpdateRequest) {
+        return adminService.updateAuthorities(memberId, authorityUpdateRequest);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.springboot_springsecurity_jwt.controller;
+
+import com.example.springboot_springsecurity_jwt.service.SigningKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccessToken 검증용 공개 키 목록(JWKS) 제공 컨트롤러
+ * 다른 서비스가 이 서비스를 호출하지 않고 kid 로 공개 키를 찾아 토큰을 직접 검증할 수 있도록 함
+ * 응답은 미리 직렬화해 두고, ETag 가 같으면 본문 없이 304 응답 (서블릿, reactive 프로필 공통)
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final SigningKeyRing signingKeyRing;
+
+    // 공개 키 목록을 캐시해도 되는 시간 :: 새 키는 이 시간 이상 미리 공개한 뒤 서명 키로 전환
+    @Value("${jwt.signing.jwks-max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SigningKeyRing.JwkSet jwkSet = signingKeyRing.getJwkSet();
+        CacheControl cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+        if (ifNoneMatch != null && ifNoneMatch.contains(jwkSet.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(jwkSet.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(jwkSet.etag()).cacheControl(cacheControl).body(jwkSet.json());
+    }
+}
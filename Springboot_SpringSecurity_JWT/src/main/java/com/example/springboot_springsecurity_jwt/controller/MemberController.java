@@ -2,17 +2,25 @@ package com.example.springboot_springsecurity_jwt.controller;
 
 import com.example.springboot_springsecurity_jwt.dto.LoginRequest;
 import com.example.springboot_springsecurity_jwt.dto.LoginResponse;
+import com.example.springboot_springsecurity_jwt.dto.MemberSearchCondition;
+import com.example.springboot_springsecurity_jwt.dto.MemberSearchResponse;
+import com.example.springboot_springsecurity_jwt.dto.SessionResponse;
 import com.example.springboot_springsecurity_jwt.dto.SignupRequest;
 import com.example.springboot_springsecurity_jwt.service.MemberService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/member")
 @RequiredArgsConstructor
 public class MemberController {
@@ -32,7 +40,33 @@ public class MemberController {
 
     // 로그아웃
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletRequest request) {
-        return memberService.logout(request);
+    public ResponseEntity<String> logout(Authentication authentication) {
+        return memberService.logout(authentication);
+    }
+
+    // 로그인한 기기(세션) 목록
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponse>> getSessions(Authentication authentication) {
+        return memberService.getSessions(authentication);
+    }
+
+    // 특정 기기 로그아웃
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<String> revokeSession(Authentication authentication, @PathVariable String sessionId) {
+        return memberService.revokeSession(authentication, sessionId);
+    }
+
+    // 모든 기기 로그아웃
+    @DeleteMapping("/sessions")
+    public ResponseEntity<String> revokeAllSessions(Authentication authentication) {
+        return memberService.revokeAllSessions(authentication);
+    }
+
+    // 회원 검색 (email 접두사, 이름, 가입일 범위) :: nextCursor 를 cursor 로 전달하면 다음 페이지
+    // 다른 회원의 email, 이름이 노출되므로 MEMBER_READ 권한이 있는 회원만 사용
+    @PreAuthorize("hasAuthority('MEMBER_READ')")
+    @GetMapping("/search")
+    public ResponseEntity<MemberSearchResponse> search(@ModelAttribute MemberSearchCondition condition) {
+        return memberService.search(condition);
     }
 }
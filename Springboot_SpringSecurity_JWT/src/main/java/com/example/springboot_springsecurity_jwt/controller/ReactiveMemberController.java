@@ -0,0 +1,41 @@
+package com.example.springboot_springsecurity_jwt.controller;
+
+import com.example.springboot_springsecurity_jwt.dto.LoginRequest;
+import com.example.springboot_springsecurity_jwt.dto.LoginResponse;
+import com.example.springboot_springsecurity_jwt.dto.SignupRequest;
+import com.example.springboot_springsecurity_jwt.service.ReactiveMemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/member")
+@RequiredArgsConstructor
+public class ReactiveMemberController {
+    private final ReactiveMemberService memberService;
+
+    // 회원가입
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<String>> signup(@RequestBody SignupRequest signupRequest) {
+        return memberService.signup(signupRequest);
+    }
+
+    // 로그인
+    @PostMapping("/login")
+    public Mono<LoginResponse> login(@RequestBody LoginRequest loginRequest) {
+        return memberService.login(loginRequest);
+    }
+
+    // 로그아웃
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<String>> logout(ServerHttpRequest request) {
+        return memberService.logout(request);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.springboot_springsecurity_jwt.controller;
+
+import com.example.springboot_springsecurity_jwt.dto.IntrospectionRequest;
+import com.example.springboot_springsecurity_jwt.dto.IntrospectionResponse;
+import com.example.springboot_springsecurity_jwt.service.TokenIntrospectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/token")
+@RequiredArgsConstructor
+public class TokenIntrospectionController {
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    // 여러 토큰의 유효 여부를 한 번에 조회 (게이트웨이, 리소스 서버용)
+    @PostMapping("/introspect")
+    public ResponseEntity<IntrospectionResponse> introspect(
+            @RequestHeader(value = "X-Introspection-Secret", required = false) String secret,
+            @RequestBody IntrospectionRequest request) {
+        return tokenIntrospectionService.introspect(secret, request);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+
+@Getter
+@Setter
+public class AuthorityUpdateRequest {
+    private Set<Authority> authorities; // 변경 후 전체 권한 (ROLE_USER, ROLE_ADMIN, MEMBER_IMPORT ...)
+}
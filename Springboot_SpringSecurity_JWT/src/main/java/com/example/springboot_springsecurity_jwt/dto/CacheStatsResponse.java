@@ -0,0 +1,19 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 캐시 하나의 적중 통계
+@Getter
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;
+    private long hitCount;
+    private long missCount;
+    private double hitRatio; // 조회가 없으면 0
+
+    public static CacheStatsResponse of(String name, long hitCount, long missCount) {
+        long requests = hitCount + missCount;
+        return new CacheStatsResponse(name, hitCount, missCount, requests == 0 ? 0 : (double) hitCount / requests);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 토큰 일괄 조회 요청 :: tokenTypeHint(access_token | refresh_token)가 있으면 해당 종류로 먼저 검증
+@Getter
+@Setter
+public class IntrospectionRequest {
+    private List<String> tokens;
+    private String tokenTypeHint;
+}
@@ -0,0 +1,13 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 토큰 일괄 조회 응답 :: results 는 요청한 tokens 와 같은 순서
+@Getter
+@AllArgsConstructor
+public class IntrospectionResponse {
+    private List<TokenIntrospection> results;
+}
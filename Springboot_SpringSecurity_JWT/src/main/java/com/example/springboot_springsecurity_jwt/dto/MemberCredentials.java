@@ -0,0 +1,13 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인 검증과 AccessToken 발급에 필요한 컬럼만 조회하기 위한 projection (엔티티를 영속성 컨텍스트에 올리지 않음)
+@Getter
+@AllArgsConstructor
+public class MemberCredentials {
+    private Long memberId;
+    private String password;
+    private long authorities;
+}
@@ -0,0 +1,19 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 회원 일괄 등록/내보내기 파일 형식
+@Getter
+@RequiredArgsConstructor
+public enum MemberFileFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    // Content-Type 또는 format 파라미터로 형식 선택 (CSV 가 아니면 NDJSON)
+    public static MemberFileFormat from(String value) {
+        return value != null && value.toLowerCase().contains("csv") ? CSV : NDJSON;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록에서 실패한 행 :: 입력의 줄 번호와 실패 사유
+@Getter
+@AllArgsConstructor
+public class MemberImportError {
+    private long line;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,12 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록 결과 요약 :: 응답의 마지막 줄
+@Getter
+@AllArgsConstructor
+public class MemberImportResult {
+    private long imported;
+    private long failed;
+}
@@ -0,0 +1,24 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// 회원 검색 조건 :: 모든 값은 선택, cursor 는 이전 응답의 nextCursor
+@Getter
+@Setter
+public class MemberSearchCondition {
+    private String emailPrefix;
+    private String name;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom; // 포함
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo; // 제외
+
+    private String cursor;
+    private Integer size;
+}
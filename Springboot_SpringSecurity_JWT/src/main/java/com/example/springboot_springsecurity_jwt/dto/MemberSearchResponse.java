@@ -0,0 +1,14 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 회원 검색 응답 :: 다음 페이지가 없으면 nextCursor 는 null
+@Getter
+@AllArgsConstructor
+public class MemberSearchResponse {
+    private List<MemberSummary> members;
+    private String nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 회원 검색 결과 한 건 (QueryDSL Projections.constructor 로 필요한 컬럼만 조회)
+@Getter
+@AllArgsConstructor
+public class MemberSummary {
+    private Long memberId;
+    private String email;
+    private String name;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class RevokeTokensRequest {
+    private List<Long> memberIds;
+}
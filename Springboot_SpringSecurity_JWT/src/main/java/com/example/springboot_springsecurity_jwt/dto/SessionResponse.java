@@ -0,0 +1,15 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class SessionResponse {
+    private String sessionId;
+    private Instant createdAt;
+    private Instant lastUsedAt;
+    private boolean current; // 요청한 토큰의 세션인지 여부
+}
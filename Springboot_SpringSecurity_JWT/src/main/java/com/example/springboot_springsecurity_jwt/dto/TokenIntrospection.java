@@ -0,0 +1,31 @@
+package com.example.springboot_springsecurity_jwt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 토큰 하나의 조회 결과 (RFC 7662 형식) :: 비활성 토큰은 active 와 cache_max_age 만 포함
+// cache_max_age 는 호출한 서버가 이 결과를 재사용해도 되는 시간(초)
+// scope 는 AccessToken 의 권한(Authority 이름)을 공백으로 구분한 값 :: 호출한 서버가 권한 확인에 사용 (RefreshToken 은 없음)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+    private boolean active;
+    @JsonProperty("token_type")
+    private String tokenType;
+    private String iss;
+    private String sub;
+    private Long exp;
+    private Long iat;
+    private String jti;
+    private String sid;
+    private String scope;
+    @JsonProperty("cache_max_age")
+    private long cacheMaxAge;
+
+    public static TokenIntrospection inactive(long cacheMaxAge) {
+        return new TokenIntrospection(false, null, null, null, null, null, null, null, null, cacheMaxAge);
+    }
+}
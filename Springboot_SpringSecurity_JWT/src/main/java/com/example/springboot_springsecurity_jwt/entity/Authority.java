@@ -0,0 +1,44 @@
+package com.example.springboot_springsecurity_jwt.entity;
+
+import java.util.Collection;
+
+/**
+ * 회원 권한 (역할 ROLE_* 과 세부 권한)
+ * member.authorities 컬럼과 AccessToken 의 auth 클레임에 비트마스크(1 << ordinal)로 저장
+ * 비트 위치가 저장된 값의 의미이므로 상수는 뒤에만 추가하고 순서를 바꾸거나 지우지 않음
+ */
+public enum Authority {
+    ROLE_USER,
+    ROLE_ADMIN,
+    MEMBER_WRITE,   // 회원 권한 변경
+    MEMBER_IMPORT,  // 회원 일괄 등록
+    MEMBER_EXPORT,  // 회원 내보내기
+    TOKEN_REVOKE,   // 회원 세션 일괄 종료
+    CACHE_READ,     // 캐시 통계 조회
+    MEMBER_READ;    // 회원 검색 (다른 회원의 email, 이름 조회)
+
+    // 일반 회원 :: 컬럼 기본값, auth 클레임이 없는 이전 토큰도 이 값으로 처리
+    public static final long USER = ROLE_USER.mask();
+    // 관리자 :: 관리자 역할과 모든 세부 권한
+    public static final long ADMIN = maskOf(values());
+
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    public boolean isGranted(long authorities) {
+        return (authorities & mask()) != 0;
+    }
+
+    public static long maskOf(Authority... authorities) {
+        long mask = 0;
+        for (Authority authority : authorities) {
+            mask |= authority.mask();
+        }
+        return mask;
+    }
+
+    public static long maskOf(Collection<Authority> authorities) {
+        return maskOf(authorities.toArray(Authority[]::new));
+    }
+}
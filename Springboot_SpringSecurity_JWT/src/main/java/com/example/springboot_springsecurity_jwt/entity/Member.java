@@ -3,14 +3,24 @@ package com.example.springboot_springsecurity_jwt.entity;
 import com.example.springboot_springsecurity_jwt.util.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        // 로그인, 회원가입 중복 확인에서 email 로 조회 :: 유니크 인덱스로 중복 가입도 DB 가 막음
+        @Index(name = Member.EMAIL_UNIQUE_INDEX, columnList = "email", unique = true),
+        // 회원 검색의 keyset 페이지네이션 정렬 순서 (created_at, member_id) :: 깊은 페이지도 인덱스에서 바로 시작 위치를 찾음
+        @Index(name = "idx_member_created_at", columnList = "created_at, member_id"),
+        // 이름으로 검색할 때도 같은 정렬 순서를 인덱스에서 사용
+        @Index(name = "idx_member_name_created_at", columnList = "name, created_at, member_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Member extends BaseEntity {
+    public static final String EMAIL_UNIQUE_INDEX = "uk_member_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
@@ -19,19 +29,26 @@ public class Member extends BaseEntity {
     @Column(nullable = false, length = 20)
     private String email;
 
-    @Column(nullable = false, length = 100)
+    // {알고리즘} 접두사가 붙은 해시 저장 (argon2 는 100자를 넘을 수 있음)
+    @Column(nullable = false, length = 255)
     private String password;
 
     @Column(nullable = false, length = 100)
     private String name;
 
+    // 권한 비트마스크 (Authority) :: 컬럼을 지정하지 않는 INSERT(일괄 등록, reactive 회원가입)는 DB 기본값(일반 회원) 사용
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private long authorities;
+
 
     // Builder를 이용하면 Service에서 체인 형태로 나타낼 수 있어 가독성이 높아짐
     // MemberService에서 사용
     @Builder
-    public Member(String email, String password, String name) {
+    public Member(String email, String password, String name, Long authorities) {
         this.email = email;
         this.password = password;
         this.name = name;
+        this.authorities = authorities != null ? authorities : Authority.USER; // 지정하지 않으면 일반 회원
     }
 }
@@ -0,0 +1,19 @@
+package com.example.springboot_springsecurity_jwt.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Redis 가 응답하지 않거나 circuit breaker 가 열려 요청을 처리할 수 없을 때 사용하는 예외
+ * 컨트롤러 밖으로 던져지면 503 Service Unavailable 로 응답
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class RedisUnavailableException extends RuntimeException {
+    public RedisUnavailableException(Throwable cause) {
+        super("일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", cause);
+    }
+
+    public RedisUnavailableException(String message) {
+        super(message);
+    }
+}
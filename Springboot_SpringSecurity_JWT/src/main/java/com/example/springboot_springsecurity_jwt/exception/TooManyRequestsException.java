@@ -0,0 +1,15 @@
+package com.example.springboot_springsecurity_jwt.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 처리 한도를 넘어 요청을 즉시 거절할 때 사용하는 예외
+ * 컨트롤러 밖으로 던져지면 429 Too Many Requests 로 응답
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
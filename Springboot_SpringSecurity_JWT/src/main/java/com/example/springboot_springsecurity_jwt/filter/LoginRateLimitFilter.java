@@ -0,0 +1,70 @@
+package com.example.springboot_springsecurity_jwt.filter;
+
+import com.example.springboot_springsecurity_jwt.service.RateLimitService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * LoginRateLimitFilter 클래스
+ * 로그인, 회원가입 요청을 컨트롤러에 도달하기 전에 IP 와 이메일 기준으로 횟수 제한
+ * 한도를 넘으면 429 와 Retry-After(초) 헤더로 응답
+ * 본문이 rate-limit.max-body-bytes 를 넘으면 읽지 않고 413 응답
+ * IP 는 getRemoteAddr() 를 사용하므로 프록시 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 를 반영해야 함
+ */
+@RequiredArgsConstructor
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+
+    // 제한 대상 경로 -> 제한 key 에 사용할 이름
+    private static final Map<String, String> LIMITED_PATHS = Map.of(
+            "/api/member/login", "login",
+            "/api/member/signup", "signup"
+    );
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !LIMITED_PATHS.containsKey(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        int maxBodyBytes = rateLimitService.getMaxBodyBytes();
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        // 본문의 이메일을 읽은 뒤에도 컨트롤러가 다시 읽을 수 있도록 래핑 (Content-Length 가 없는 chunked 요청도 크기 제한)
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, maxBodyBytes);
+        if (cachedRequest.isTooLarge()) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        String action = LIMITED_PATHS.get(request.getServletPath());
+
+        long waitMillis = rateLimitService.tryAcquire(action, request.getRemoteAddr(), rateLimitService.extractEmail(cachedRequest.getBody()));
+        if (waitMillis > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000)); // 초 단위로 올림
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+}
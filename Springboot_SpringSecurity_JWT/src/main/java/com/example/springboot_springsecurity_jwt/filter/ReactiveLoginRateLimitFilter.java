@@ -0,0 +1,91 @@
+package com.example.springboot_springsecurity_jwt.filter;
+
+import com.example.springboot_springsecurity_jwt.service.RateLimitService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * ReactiveLoginRateLimitFilter 클래스
+ * reactive 프로필에서 LoginRateLimitFilter 를 대신하는 WebFilter
+ * 본문의 이메일을 읽기 위해 본문을 한 번 모은 뒤, 컨트롤러가 다시 읽을 수 있도록 요청을 감싸서 전달
+ * 본문이 rate-limit.max-body-bytes 를 넘으면 413 응답
+ */
+@RequiredArgsConstructor
+public class ReactiveLoginRateLimitFilter implements WebFilter {
+
+    private final RateLimitService rateLimitService;
+
+    // 제한 대상 경로 -> 제한 key 에 사용할 이름
+    private static final Map<String, String> LIMITED_PATHS = Map.of(
+            "/api/member/login", "login",
+            "/api/member/signup", "signup"
+    );
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String action = LIMITED_PATHS.get(request.getPath().pathWithinApplication().value());
+        if (action == null || !HttpMethod.POST.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        return DataBufferUtils.join(request.getBody(), rateLimitService.getMaxBodyBytes())
+                .map(buffer -> {
+                    byte[] body = new byte[buffer.readableByteCount()];
+                    buffer.read(body);
+                    DataBufferUtils.release(buffer);
+                    return body;
+                })
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> rateLimitService.tryAcquireReactive(action, remoteAddress(request), rateLimitService.extractEmail(body))
+                        .flatMap(waitMillis -> waitMillis > 0
+                                ? reject(exchange.getResponse(), waitMillis)
+                                : chain.filter(exchange.mutate().request(withBody(exchange, body)).build())))
+                .onErrorResume(DataBufferLimitException.class, e -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+                    return exchange.getResponse().setComplete();
+                });
+    }
+
+    // 이미 읽은 본문을 다시 제공하는 요청
+    private ServerHttpRequest withBody(ServerWebExchange exchange, byte[] body) {
+        return new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+            }
+        };
+    }
+
+    // 429 와 Retry-After(초) 헤더로 응답
+    private Mono<Void> reject(ServerHttpResponse response, long waitMillis) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000)); // 초 단위로 올림
+        response.getHeaders().setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+        DataBuffer buffer = response.bufferFactory().wrap("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.".getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        return address != null && address.getAddress() != null ? address.getAddress().getHostAddress() : "unknown";
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.springboot_springsecurity_jwt.filter;
+
+import com.example.springboot_springsecurity_jwt.service.SessionService;
+import com.example.springboot_springsecurity_jwt.service.TokenRevocationService;
+import com.example.springboot_springsecurity_jwt.service.TokenService;
+import com.example.springboot_springsecurity_jwt.service.TokenVerification;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReactiveTokenAuthenticationFilter 클래스
+ * reactive 프로필에서 TokenAuthenticationFilter 를 대신하는 WebFilter
+ * 토큰 검증과 폐기 확인, 만료 시 세션을 확인하여 재발급하는 흐름은 서블릿 버전과 같고,
+ * Redis 조회는 ReactiveStringRedisTemplate 으로 처리하여 이벤트 루프를 블로킹하지 않음
+ */
+@RequiredArgsConstructor
+public class ReactiveTokenAuthenticationFilter implements WebFilter {
+
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final SessionService sessionService;
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    // HTTP 헤더에서 토큰을 추출할 때 사용할 이름
+    private static final String TOKEN_HEADER = "Authorization";
+    // Bearer 타입의 토큰을 의미하는 접두사
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = extractToken(exchange.getRequest()); // 요청에서 JWT 토큰을 추출
+
+        // 토큰은 요청당 한 번만 파싱하고, 그 결과(Claims)를 인증 정보 생성에 그대로 사용
+        TokenVerification verification = tokenService.verifyAccessToken(token);
+        return switch (verification.getStatus()) {
+            case VALID -> {
+                Claims claims = verification.getClaims();
+                if (tokenRevocationService.isIssuedBeforeAuthorityChange(claims)) {
+                    yield chain.filter(exchange); // 권한이 바뀌기 전에 발급된 토큰은 인증하지 않음
+                }
+                yield isRevoked(claims.getId()).flatMap(revoked -> revoked
+                        ? chain.filter(exchange) // 로그아웃 등으로 폐기된 토큰은 인증하지 않음
+                        : authenticate(exchange, chain, tokenService.getAuthentication(claims, token)));
+            }
+            case EXPIRED -> verification.getMemberId() != null && tokenRevocationService.isIssuedBeforeAuthorityChange(verification.getClaims())
+                    ? chain.filter(exchange) // 권한 변경 전에 발급된 토큰은 재발급하지 않음 (다시 로그인해야 함)
+                    : handleExpiredToken(verification.getMemberId(), verification.getSessionId(), verification.getAuthorities(), verification.getIssuedAt(), exchange, chain); // 만료된 토큰 처리
+            default -> chain.filter(exchange); // 토큰이 없거나 유효하지 않으면 인증 정보 없이 진행
+        };
+    }
+
+    // HTTP 요청에서 JWT 토큰을 추출하는 메서드
+    private String extractToken(ServerHttpRequest request) {
+        String authorizationHeader = request.getHeaders().getFirst(TOKEN_HEADER); // Authorization 헤더에서 토큰 추출
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {  // Bearer 타입의 토큰인지 확인
+            return authorizationHeader.substring(BEARER_PREFIX.length());  // Bearer 접두사 이후의 토큰 반환
+        }
+        return ""; // 토큰이 없으면 빈 문자열 반환
+    }
+
+    // Bloom filter 에 걸린 토큰만 Redis 로 폐기 여부 확인
+    private Mono<Boolean> isRevoked(String jti) {
+        if (!tokenRevocationService.mightBeRevoked(jti)) {
+            return Mono.just(false);
+        }
+        return redisTemplate.hasKey(TokenRevocationService.revokedKey(jti)).defaultIfEmpty(false);
+    }
+
+    // 만료된 토큰을 처리하는 메서드 :: 세션이 살아있으면 새 accessToken 을 발급하고 응답 헤더에 추가
+    // 권한 변경 시각은 메모리 복제가 아닌 Redis 에서 확인한 뒤, 세션 확인과 사용 시각 갱신을 Lua 스크립트 한 번으로 처리
+    private Mono<Void> handleExpiredToken(Long memberId, String sessionId, long authorities, long issuedAt, ServerWebExchange exchange, WebFilterChain chain) {
+        if (memberId == null || sessionId == null) {
+            return chain.filter(exchange); // 세션 정보가 없는 이전 형식의 토큰은 다시 로그인해야 함
+        }
+
+        List<String> args = sessionService.touchArgs(sessionId, Instant.now().getEpochSecond());
+        return redisTemplate.opsForValue().get(TokenRevocationService.authorityChangeKey(memberId))
+                .map(notBefore -> issuedAt < Long.parseLong(notBefore))
+                .defaultIfEmpty(false)
+                .filter(issuedBeforeChange -> !issuedBeforeChange) // 권한 변경 전에 발급된 토큰은 재발급하지 않음
+                .flatMap(notStale -> redisTemplate.execute(SessionService.TOUCH_SESSION_SCRIPT, List.of(SessionService.sessionKey(memberId)), args)
+                        .next()) // 세션이 없거나 만료되었으면 결과가 비어 있음
+                .map(session -> Optional.of(tokenService.makeAccessToken(memberId, sessionId, authorities)))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(newAccessToken -> {
+                    if (newAccessToken.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    exchange.getResponse().getHeaders().set("New-Access-Token", newAccessToken.get()); // 응답 헤더에 새로운 accessToken 추가
+                    return authenticate(exchange, chain, tokenService.getAuthentication(memberId, authorities, newAccessToken.get()));
+                });
+    }
+
+    // 이후 필터와 컨트롤러가 인증 정보를 사용할 수 있도록 Reactor Context 에 저장
+    private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain, Authentication authentication) {
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+}
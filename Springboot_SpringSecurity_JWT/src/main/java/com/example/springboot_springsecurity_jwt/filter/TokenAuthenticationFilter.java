@@ -1,50 +1,131 @@
 package com.example.springboot_springsecurity_jwt.filter;
 
+import com.example.springboot_springsecurity_jwt.cache.AccessTokenCache;
+import com.example.springboot_springsecurity_jwt.exception.RedisUnavailableException;
+import com.example.springboot_springsecurity_jwt.service.TokenRefreshService;
+import com.example.springboot_springsecurity_jwt.service.TokenRevocationService;
 import com.example.springboot_springsecurity_jwt.service.TokenService;
-import io.jsonwebtoken.ExpiredJwtException;
+import com.example.springboot_springsecurity_jwt.service.TokenVerification;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * TokenAuthenticationFilter 클래스
  * 매 요청마다 실행되는 필터로, JWT 토큰의 인증 및 갱신 처리
+ * 인증 처리 결과(outcome)별 소요 시간을 auth.filter 로 기록 (이후 필터 체인 실행 시간은 제외)
  */
-@RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
+    private final TokenRefreshService tokenRefreshService;
+    private final TokenRevocationService tokenRevocationService;
+    // 검증된 토큰의 인증 정보 캐시 (비활성화 시 null)
+    private final AccessTokenCache accessTokenCache;
+    // 결과별 Timer :: 요청마다 registry 를 조회하지 않도록 생성 시 등록
+    private final Map<Outcome, Timer> outcomeTimers = new EnumMap<>(Outcome.class);
 
     // HTTP 헤더에서 토큰을 추출할 때 사용할 이름
     private static final String TOKEN_HEADER = "Authorization";
     // Bearer 타입의 토큰을 의미하는 접두사
     private static final String BEARER_PREFIX = "Bearer ";
+    // Redis 를 사용할 수 없을 때 재시도까지 기다릴 시간 (초)
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    // 인증 처리 결과
+    private enum Outcome {
+        CACHED,          // 캐시된 인증 정보 사용
+        VALID,           // 토큰 검증 후 인증
+        REVOKED,         // 폐기되었거나 권한 변경 전에 발급된 토큰이라 인증하지 않음
+        REFRESHED,       // 만료된 토큰을 재발급하여 인증
+        REFRESH_FAILED,  // 만료된 토큰이지만 세션이 없어 재발급하지 않음
+        UNAVAILABLE,     // 만료된 토큰이지만 Redis 를 사용할 수 없어 재발급하지 못함 (503 응답)
+        INVALID,         // 서명 불일치 등 잘못된 토큰
+        MISSING          // 토큰 없음
+    }
+
+    public TokenAuthenticationFilter(TokenService tokenService,
+                                     TokenRefreshService tokenRefreshService,
+                                     TokenRevocationService tokenRevocationService,
+                                     AccessTokenCache accessTokenCache,
+                                     MeterRegistry meterRegistry) {
+        this.tokenService = tokenService;
+        this.tokenRefreshService = tokenRefreshService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.accessTokenCache = accessTokenCache;
+        for (Outcome outcome : Outcome.values()) {
+            outcomeTimers.put(outcome, Timer.builder("auth.filter")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String token = extractToken(request); // 요청에서 JWT 토큰을 추출
+        long start = System.nanoTime();
+        Outcome outcome = authenticate(extractToken(request), response); // 요청에서 JWT 토큰을 추출하여 인증
+        outcomeTimers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
-        try {
-            if (tokenService.validateAccessToken(token)) { // 토큰이 유효한지 검증
-                Authentication authentication = tokenService.getAuthentication(token); // 토큰을 기반으로 인증 정보 생성
-                SecurityContextHolder.getContext().setAuthentication(authentication); // 인증 정보를 SecurityContext에 저장
-            }
-        } catch (ExpiredJwtException e) {
-            handleExpiredToken(e, response); // 만료된 토큰 처리
+        // 재발급을 확인할 수 없으면 인증 실패(403)로 처리하지 않고 503 응답 :: 클라이언트는 같은 토큰으로 다시 시도
+        if (outcome == Outcome.UNAVAILABLE) {
+            response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
         }
 
         filterChain.doFilter(request, response); // 필터 체인 실행
     }
 
+    private Outcome authenticate(String token, HttpServletResponse response) {
+        // 이미 검증한 토큰이면 서명 검증과 파싱 없이 캐시된 인증 정보 사용 (폐기 여부는 매번 확인)
+        AccessTokenCache.CachedAuthentication cached = getCachedAuthentication(token);
+        if (cached != null) {
+            if (tokenRevocationService.isRevoked(cached.jti()) || isIssuedBeforeAuthorityChange(cached.authentication())) {
+                return Outcome.REVOKED;
+            }
+            SecurityContextHolder.getContext().setAuthentication(cached.authentication());
+            return Outcome.CACHED;
+        }
+
+        // 토큰은 요청당 한 번만 파싱하고, 그 결과(Claims)를 인증 정보 생성에 그대로 사용
+        TokenVerification verification = tokenService.verifyAccessToken(token);
+        return switch (verification.getStatus()) {
+            case VALID -> {
+                Claims claims = verification.getClaims();
+                // 로그아웃 등으로 폐기된 토큰, 권한이 바뀌기 전에 발급된 토큰은 인증하지 않음
+                if (tokenRevocationService.isRevoked(claims.getId()) || tokenRevocationService.isIssuedBeforeAuthorityChange(claims)) {
+                    yield Outcome.REVOKED;
+                }
+                Authentication authentication = tokenService.getAuthentication(claims, token); // 토큰을 기반으로 인증 정보 생성
+                SecurityContextHolder.getContext().setAuthentication(authentication); // 인증 정보를 SecurityContext에 저장
+                if (accessTokenCache != null) {
+                    accessTokenCache.put(token, authentication, claims.getId(), claims.getExpiration().getTime()); // exp 까지만 캐시
+                }
+                yield Outcome.VALID;
+            }
+            case EXPIRED -> verification.getMemberId() != null && tokenRevocationService.isIssuedBeforeAuthorityChange(verification.getClaims())
+                    ? Outcome.REFRESH_FAILED // 권한 변경 전에 발급된 토큰은 재발급하지 않음 (다시 로그인해야 함)
+                    : handleExpiredToken(verification.getMemberId(), verification.getSessionId(), verification.getAuthorities(), verification.getIssuedAt(), response); // 만료된 토큰 처리
+            case INVALID -> Outcome.INVALID;
+            case MISSING -> Outcome.MISSING; // 토큰이 없거나 유효하지 않으면 인증 정보 없이 진행
+        };
+    }
+
     // HTTP 요청에서 JWT 토큰을 추출하는 메서드
     private String extractToken(HttpServletRequest request) {
         String authorizationHeader = request.getHeader(TOKEN_HEADER); // Authorization 헤더에서 토큰 추출
@@ -54,19 +135,40 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         return ""; // 토큰이 없으면 빈 문자열 반환
     }
 
+    // 캐시된 인증 정보의 토큰이 권한 변경 전에 발급되었는지 확인 (캐시에는 검증된 Claims 가 details 로 들어 있음)
+    private boolean isIssuedBeforeAuthorityChange(Authentication authentication) {
+        return authentication.getDetails() instanceof Claims claims && tokenRevocationService.isIssuedBeforeAuthorityChange(claims);
+    }
+
+    // 캐시에서 인증 정보 조회 :: 캐시가 비활성화되었거나 토큰이 없으면 null
+    private AccessTokenCache.CachedAuthentication getCachedAuthentication(String token) {
+        if (accessTokenCache == null || !StringUtils.hasText(token)) {
+            return null;
+        }
+        return accessTokenCache.get(token);
+    }
+
     // 만료된 토큰을 처리하는 메서드
-    private void handleExpiredToken(ExpiredJwtException e, HttpServletResponse response) {
-        Long memberId = e.getClaims().get("id", Long.class); // 만료된 토큰에서 memberId 추출
-
-        // Redis에서 해당 memberId의 refreshToken 조회
-        String refreshToken = tokenService.getRefreshTokenFromRedis(memberId);
-        if (tokenService.validateRefreshToken(refreshToken)) { // refreshToken이 유효한지 확인
-            // 새 accessToken을 생성하고 인증 정보 갱신
-            String newAccessToken = tokenService.makeAccessToken(memberId);
-            Authentication authentication = tokenService.getAuthentication(newAccessToken);
+    private Outcome handleExpiredToken(Long memberId, String sessionId, long authorities, long issuedAt, HttpServletResponse response) {
+        if (memberId == null) {
+            return Outcome.REFRESH_FAILED;
+        }
+
+        // 같은 세션의 동시 재발급 요청은 하나로 합쳐져 같은 accessToken 을 받음
+        String newAccessToken;
+        try {
+            newAccessToken = tokenRefreshService.refreshAccessToken(memberId, sessionId, authorities, issuedAt);
+        } catch (RedisUnavailableException e) {
+            return Outcome.UNAVAILABLE;
+        }
+        if (newAccessToken != null) { // refreshToken이 유효하여 재발급된 경우
+            // 새 accessToken으로 인증 정보 갱신 (방금 발급한 토큰이므로 다시 파싱하지 않음)
+            Authentication authentication = tokenService.getAuthentication(memberId, authorities, newAccessToken);
             SecurityContextHolder.getContext().setAuthentication(authentication);  // 새 accessToken으로 인증 정보 설정
 
             response.setHeader("New-Access-Token", newAccessToken); // 응답 헤더에 새로운 accessToken 추가
+            return Outcome.REFRESHED;
         }
+        return Outcome.REFRESH_FAILED;
     }
 }
@@ -0,0 +1,49 @@
+package com.example.springboot_springsecurity_jwt.repository;
+
+import com.example.springboot_springsecurity_jwt.entity.Member;
+import io.r2dbc.spi.R2dbcException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * member 테이블 제약 조건 위반 판별 유틸
+ * 저장 실패(DataIntegrityViolationException)의 원인을 따라가며 email 유니크 인덱스 위반인지 확인
+ * - JPA : Hibernate 가 추출한 제약 조건 이름 (대소문자 무시)
+ * - JDBC, R2DBC : SQLState 23000 + MariaDB 중복 키 오류 코드(1062) + 메시지의 인덱스 이름 (대소문자 무시)
+ * NOT NULL 위반(1048) 등 같은 SQLState 의 다른 오류는 중복으로 보지 않음
+ */
+public final class MemberConstraints {
+
+    private static final String INTEGRITY_VIOLATION_SQL_STATE = "23000";
+    private static final int DUPLICATE_KEY_ERROR_CODE = 1062;
+
+    private MemberConstraints() {
+    }
+
+    public static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return containsEmailIndex(violation.getConstraintName());
+            }
+            if (cause instanceof SQLException sqlException) {
+                return isDuplicateKey(sqlException.getSQLState(), sqlException.getErrorCode(), sqlException.getMessage());
+            }
+            if (cause instanceof R2dbcException r2dbcException) {
+                return isDuplicateKey(r2dbcException.getSqlState(), r2dbcException.getErrorCode(), r2dbcException.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDuplicateKey(String sqlState, int errorCode, String message) {
+        return INTEGRITY_VIOLATION_SQL_STATE.equals(sqlState)
+                && errorCode == DUPLICATE_KEY_ERROR_CODE
+                && containsEmailIndex(message);
+    }
+
+    private static boolean containsEmailIndex(String text) {
+        return text != null && text.toLowerCase().contains(Member.EMAIL_UNIQUE_INDEX);
+    }
+}
@@ -2,6 +2,30 @@ package com.example.springboot_springsecurity_jwt.repository;
 
 import com.example.springboot_springsecurity_jwt.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    // 비밀번호만 갱신 (엔티티를 조회하지 않고 UPDATE 한 번으로 처리)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password = :password where m.memberId = :memberId")
+    int updatePassword(@Param("memberId") Long memberId, @Param("password") String password);
+
+    // 권한만 갱신 :: 변경된 회원 수 반환
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.authorities = :authorities where m.memberId = :memberId")
+    int updateAuthorities(@Param("memberId") Long memberId, @Param("authorities") long authorities);
+
+    // email 목록(소문자)에 해당하는 가입된 회원의 권한 변경 :: 이미 같은 권한이면 변경하지 않음, 변경된 회원 수 반환
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.authorities = :authorities where lower(m.email) in :emails and m.authorities <> :authorities")
+    int grantAuthoritiesByEmails(@Param("emails") Collection<String> emails, @Param("authorities") long authorities);
 }
@@ -0,0 +1,57 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.dto.AuthorityUpdateRequest;
+import com.example.springboot_springsecurity_jwt.dto.RevokeTokensRequest;
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import com.example.springboot_springsecurity_jwt.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * AdminService 클래스
+ * 관리자 전용 작업 처리 (자격 증명 유출 시 여러 회원의 세션 일괄 종료, 회원 권한 변경 등)
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class AdminService {
+    private final SessionService sessionService;
+    private final MemberRepository memberRepository;
+    private final TokenRevocationService tokenRevocationService;
+
+    // 여러 회원의 모든 세션(RefreshToken)과 재발급 공유 토큰을 일괄 삭제
+    public ResponseEntity<String> revokeRefreshTokens(RevokeTokensRequest revokeTokensRequest) {
+        List<Long> memberIds = revokeTokensRequest.getMemberIds();
+        if (memberIds == null || memberIds.isEmpty()) {
+            return ResponseEntity.badRequest().body("회원 ID 목록이 비어 있습니다.");
+        }
+
+        long revoked = sessionService.revokeAllSessions(memberIds);
+
+        log.info("리프레시 토큰 일괄 폐기: 요청 {}명, 종료된 세션 {}개", memberIds.size(), revoked);
+        return ResponseEntity.ok(revoked + "개의 토큰이 폐기되었습니다.");
+    }
+
+    // 회원 권한 변경 :: 권한은 AccessToken 에 담겨 재발급 시에도 이어지므로, 변경 후 회원의 모든 세션을 종료하여 다시 로그인하게 함
+    // 이미 발급된 AccessToken(캐시된 인증 정보 포함)은 권한 변경 시각 이전에 발급된 토큰으로 거부됨
+    public ResponseEntity<String> updateAuthorities(Long memberId, AuthorityUpdateRequest authorityUpdateRequest) {
+        if (authorityUpdateRequest.getAuthorities() == null || authorityUpdateRequest.getAuthorities().isEmpty()) {
+            return ResponseEntity.badRequest().body("권한 목록이 비어 있습니다.");
+        }
+        long authorities = Authority.maskOf(authorityUpdateRequest.getAuthorities());
+        if (memberRepository.updateAuthorities(memberId, authorities) == 0) {
+            return ResponseEntity.badRequest().body("존재하지 않는 회원입니다.");
+        }
+        tokenRevocationService.revokeAuthorities(memberId);
+        long revoked = sessionService.revokeAllSessions(List.of(memberId));
+
+        log.info("회원 권한 변경: memberId={}, 권한 {}, 종료된 세션 {}개", memberId, authorityUpdateRequest.getAuthorities(), revoked);
+        return ResponseEntity.ok("권한이 변경되었습니다.");
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.cache.AccessTokenCache;
+import com.example.springboot_springsecurity_jwt.cache.RefreshTokenNearCache;
+import com.example.springboot_springsecurity_jwt.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 통계 서비스 클래스
+ * 로컬 토큰 캐시(AccessToken 캐시, 세션 near cache)의 적중률 조회
+ */
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class CacheStatsService {
+    private final ObjectProvider<AccessTokenCache> accessTokenCache;
+    private final ObjectProvider<RefreshTokenNearCache> refreshTokenNearCache;
+
+    public List<CacheStatsResponse> getCacheStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        AccessTokenCache tokenCache = accessTokenCache.getIfAvailable();
+        if (tokenCache != null) {
+            stats.add(fromCaffeine("access-token", tokenCache.stats()));
+        }
+        RefreshTokenNearCache nearCache = refreshTokenNearCache.getIfAvailable();
+        if (nearCache != null) {
+            stats.add(fromCaffeine("session-near-cache", nearCache.stats()));
+        }
+        return stats;
+    }
+
+    private CacheStatsResponse fromCaffeine(String name, CacheStats cacheStats) {
+        return CacheStatsResponse.of(name, cacheStats.hitCount(), cacheStats.missCount());
+    }
+}
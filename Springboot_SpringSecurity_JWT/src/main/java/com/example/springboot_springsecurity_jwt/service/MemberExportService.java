@@ -0,0 +1,133 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.dto.MemberFileFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 내보내기 서비스 클래스
+ * member 테이블 전체를 엔티티로 만들지 않고 forward-only JDBC 커서로 fetch-size 행씩 읽어 응답에 바로 기록
+ * 한 번에 메모리에 올라오는 행은 fetch-size 만큼이므로 행 수와 관계없이 메모리 사용량이 일정함
+ * 비밀번호 해시는 내보내지 않음
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+public class MemberExportService {
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    private static final String SELECT_SQL =
+            "SELECT member_id, email, name, created_at, updated_at FROM member ORDER BY member_id";
+
+    private static final String CSV_HEADER = "member_id,email,name,created_at,updated_at";
+
+    public MemberExportService(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${member-export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // 모든 회원을 format 형식으로 output 에 기록 :: 기록한 행 수 반환
+    public long exportMembers(MemberFileFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM); // generator.flush() 가 응답 스트림까지 flush 하지 않도록 함
+        generator.setRootValueSeparator(null); // 행 사이 기본 구분자(공백) 대신 writeRaw 로 줄바꿈만 기록
+        if (format == MemberFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                // 읽기 전용 forward-only 커서 :: MariaDB 드라이버는 fetch size 가 있으면 결과를 나누어 받음
+                PreparedStatement statement = connection.prepareStatement(SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, resultSet -> {
+                try {
+                    if (format == MemberFileFormat.CSV) {
+                        writeCsv(resultSet, writer);
+                    } else {
+                        writeJson(resultSet, generator);
+                    }
+                    // fetch-size 행마다 응답으로 내보내 버퍼가 커지지 않도록 함 (그 사이에는 flush 하지 않음)
+                    if (++count[0] % fetchSize == 0) {
+                        generator.flush(); // generator 버퍼 -> writer
+                        writer.flush();    // writer -> 응답 스트림
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 등 :: 쿼리를 중단하고 커서를 닫음
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        generator.flush();
+        writer.flush();
+        log.info("회원 내보내기 완료: {}건 ({})", count[0], format);
+        return count[0];
+    }
+
+    private void writeJson(ResultSet resultSet, JsonGenerator generator) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("memberId", resultSet.getLong("member_id"));
+        generator.writeStringField("email", resultSet.getString("email"));
+        generator.writeStringField("name", resultSet.getString("name"));
+        generator.writeStringField("createdAt", toText(resultSet.getObject("created_at", LocalDateTime.class)));
+        generator.writeStringField("updatedAt", toText(resultSet.getObject("updated_at", LocalDateTime.class)));
+        generator.writeEndObject();
+        generator.writeRaw('\n'); // 줄바꿈도 generator 버퍼에 기록하여 행마다 flush 하지 않음
+    }
+
+    private void writeCsv(ResultSet resultSet, Writer writer) throws SQLException, IOException {
+        writer.write(String.valueOf(resultSet.getLong("member_id")));
+        writer.write(',');
+        writer.write(csvField(resultSet.getString("email")));
+        writer.write(',');
+        writer.write(csvField(resultSet.getString("name")));
+        writer.write(',');
+        writer.write(toText(resultSet.getObject("created_at", LocalDateTime.class)));
+        writer.write(',');
+        writer.write(toText(resultSet.getObject("updated_at", LocalDateTime.class)));
+        writer.write('\n');
+    }
+
+    // 쉼표, 큰따옴표, 줄바꿈이 있는 값은 큰따옴표로 감싸고 "" 로 이스케이프
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private String toText(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : "";
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.dto.MemberFileFormat;
+import com.example.springboot_springsecurity_jwt.dto.MemberImportError;
+import com.example.springboot_springsecurity_jwt.dto.MemberImportResult;
+import com.example.springboot_springsecurity_jwt.dto.SignupRequest;
+import com.example.springboot_springsecurity_jwt.repository.MemberConstraints;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 회원 일괄 등록 서비스 클래스
+ * NDJSON 또는 CSV 입력을 한 줄씩 읽어 batch-size 단위로 처리하므로 입력 크기와 관계없이 메모리 사용량이 일정함
+ * 배치마다 기존 email 을 한 번에 조회하여 중복 행은 해싱 전에 제외하고, 비밀번호는 병렬로 해싱한 뒤 JDBC batch insert 로 저장
+ * (Member 는 IDENTITY 전략이라 Hibernate insert batching 이 동작하지 않으므로 JPA 를 거치지 않음)
+ * 실패한 행은 전체를 중단하지 않고 응답에 한 줄씩 기록하며, 마지막 줄에 요약을 기록
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+public class MemberImportService {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    // 컬럼 길이 (Member 엔티티와 같음)
+    private static final int EMAIL_MAX_LENGTH = 20;
+    private static final int NAME_MAX_LENGTH = 100;
+
+    // INSERT IGNORE 는 중복 외의 오류(NOT NULL, 길이 초과, 문자셋)도 경고로 바꿔 0 건 처리하거나 잘라서 저장하므로 사용하지 않음
+    // 배치가 실패하면 한 행씩 다시 저장하면서 실패 원인을 구분
+    private static final String INSERT_SQL = """
+            INSERT INTO member (email, password, name, created_at, updated_at)
+            VALUES (?, ?, ?, NOW(6), NOW(6))
+            """;
+
+    // 입력 한 행
+    private record Row(long line, SignupRequest member) {
+    }
+
+    public MemberImportService(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               PasswordHashingService passwordHashingService,
+                               ObjectMapper objectMapper,
+                               @Value("${member-import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordHashingService = passwordHashingService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    // 입력을 끝까지 읽어 등록하고, 실패한 행과 요약을 output 에 NDJSON 으로 기록
+    public MemberImportResult importMembers(InputStream input, MemberFileFormat format, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        ImportProgress progress = new ImportProgress(writer);
+
+        List<Row> batch = new ArrayList<>(batchSize);
+        Set<String> batchEmails = new HashSet<>();
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!StringUtils.hasText(line) || (format == MemberFileFormat.CSV && lineNumber == 1 && isCsvHeader(line))) {
+                continue;
+            }
+
+            SignupRequest member;
+            try {
+                member = format == MemberFileFormat.CSV ? parseCsv(line) : objectMapper.readValue(line, SignupRequest.class);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                progress.fail(lineNumber, null, "행 형식이 올바르지 않습니다.");
+                continue;
+            }
+
+            String error = validate(member);
+            if (error != null) {
+                progress.fail(lineNumber, member.getEmail(), error);
+                continue;
+            }
+            // 같은 배치 안의 중복 email 은 먼저 나온 행만 등록 (email 인덱스는 대소문자를 구분하지 않음)
+            if (!batchEmails.add(member.getEmail().toLowerCase(Locale.ROOT))) {
+                progress.fail(lineNumber, member.getEmail(), "이미 존재하는 이메일입니다.");
+                continue;
+            }
+
+            batch.add(new Row(lineNumber, member));
+            if (batch.size() >= batchSize) {
+                flush(batch, progress);
+                batch.clear();
+                batchEmails.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch, progress);
+        }
+
+        MemberImportResult result = new MemberImportResult(progress.imported, progress.failed);
+        writer.write(objectMapper.writeValueAsString(result));
+        writer.write('\n');
+        writer.flush();
+        log.info("회원 일괄 등록 완료: 등록 {}건, 실패 {}건", result.getImported(), result.getFailed());
+        return result;
+    }
+
+    // 배치 하나 저장 :: 기존 email 조회(1회) -> 병렬 해싱 -> batch insert(1회, 트랜잭션 1개)
+    private void flush(List<Row> batch, ImportProgress progress) throws IOException {
+        Set<String> existingEmails = findExistingEmails(batch);
+        List<Row> rows = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            if (existingEmails.contains(row.member().getEmail().toLowerCase(Locale.ROOT))) {
+                progress.fail(row.line(), row.member().getEmail(), "이미 존재하는 이메일입니다.");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            progress.flush();
+            return;
+        }
+
+        List<String> encodedPasswords = passwordHashingService.encodeAll(rows.stream().map(row -> row.member().getPassword()).toList());
+        List<Object[]> params = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            SignupRequest member = rows.get(i).member();
+            params.add(new Object[]{member.getEmail(), encodedPasswords.get(i), member.getName()});
+        }
+
+        try {
+            transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL, params));
+        } catch (DataAccessException e) {
+            // 한 행이라도 실패하면 배치 전체를 rollback 하고 한 행씩 다시 저장하여 실패한 행만 기록
+            // (조회 이후 다른 요청이 같은 email 로 가입한 경우 포함)
+            log.warn("회원 일괄 등록 배치 실패, 한 행씩 다시 저장합니다: {}", e.getMostSpecificCause().getMessage());
+            insertOneByOne(rows, params, progress);
+            progress.flush();
+            return;
+        }
+
+        progress.imported += rows.size();
+        progress.flush();
+    }
+
+    private void insertOneByOne(List<Row> rows, List<Object[]> params, ImportProgress progress) throws IOException {
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, params.get(i));
+                progress.imported++;
+            } catch (DataIntegrityViolationException e) {
+                progress.fail(row.line(), row.member().getEmail(), MemberConstraints.isDuplicateEmail(e)
+                        ? "이미 존재하는 이메일입니다."
+                        : "저장할 수 없는 값입니다.");
+            }
+        }
+    }
+
+    // 배치의 email 중 이미 가입된 email 을 한 번의 쿼리로 조회 (email 유니크 인덱스 사용)
+    private Set<String> findExistingEmails(List<Row> batch) {
+        String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+        Object[] emails = batch.stream().map(row -> row.member().getEmail()).toArray();
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query("SELECT email FROM member WHERE email IN (" + placeholders + ")",
+                resultSet -> {
+                    existing.add(resultSet.getString(1).toLowerCase(Locale.ROOT));
+                }, emails);
+        return existing;
+    }
+
+    // 필수 값과 컬럼 길이 확인 :: 문제가 없으면 null
+    String validate(SignupRequest member) {
+        if (!StringUtils.hasText(member.getEmail()) || !StringUtils.hasText(member.getPassword()) || !StringUtils.hasText(member.getName())) {
+            return "email, password, name 은 필수입니다.";
+        }
+        if (member.getEmail().length() > EMAIL_MAX_LENGTH) {
+            return "email 은 " + EMAIL_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        if (member.getName().length() > NAME_MAX_LENGTH) {
+            return "name 은 " + NAME_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        return null;
+    }
+
+    private boolean isCsvHeader(String line) {
+        return line.replace(" ", "").equalsIgnoreCase("email,password,name");
+    }
+
+    // email,password,name 순서의 CSV 한 줄 파싱 :: 큰따옴표로 감싼 값과 "" 이스케이프 지원
+    SignupRequest parseCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        if (quoted || fields.size() != 3) {
+            throw new IllegalArgumentException("CSV 행은 email,password,name 세 개의 값이어야 합니다.");
+        }
+
+        SignupRequest member = new SignupRequest();
+        member.setEmail(fields.get(0).trim());
+        member.setPassword(fields.get(1));
+        member.setName(fields.get(2).trim());
+        return member;
+    }
+
+    // 등록/실패 건수와 실패한 행 기록 :: 실패 행은 메모리에 모으지 않고 바로 응답에 씀
+    private class ImportProgress {
+        private final Writer writer;
+        private long imported;
+        private long failed;
+
+        ImportProgress(Writer writer) {
+            this.writer = writer;
+        }
+
+        void fail(long line, String email, String message) throws IOException {
+            failed++;
+            writer.write(objectMapper.writeValueAsString(new MemberImportError(line, email, message)));
+            writer.write('\n');
+        }
+
+        // 배치마다 응답으로 내보내 클라이언트가 진행 상황을 볼 수 있도록 함
+        void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -2,109 +2,234 @@ package com.example.springboot_springsecurity_jwt.service;
 
 import com.example.springboot_springsecurity_jwt.dto.LoginRequest;
 import com.example.springboot_springsecurity_jwt.dto.LoginResponse;
+import com.example.springboot_springsecurity_jwt.dto.MemberCredentials;
+import com.example.springboot_springsecurity_jwt.dto.MemberSearchCondition;
+import com.example.springboot_springsecurity_jwt.dto.MemberSearchResponse;
+import com.example.springboot_springsecurity_jwt.dto.MemberSummary;
+import com.example.springboot_springsecurity_jwt.dto.SessionResponse;
 import com.example.springboot_springsecurity_jwt.dto.SignupRequest;
+import com.example.springboot_springsecurity_jwt.entity.Authority;
 import com.example.springboot_springsecurity_jwt.entity.Member;
+import com.example.springboot_springsecurity_jwt.repository.MemberConstraints;
 import com.example.springboot_springsecurity_jwt.repository.MemberRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.example.springboot_springsecurity_jwt.entity.QMember;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.transaction.Transactional;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Service
+@Profile("!reactive")
 public class MemberService {
     private final MemberRepository memberRepository;
     private final JPAQueryFactory queryFactory;
     private final TokenService tokenService;
-    private final PasswordEncoder passwordEncoder;
-    private final RedisService redisService;
+    private final SessionService sessionService;
+    private final PasswordHashingService passwordHashingService;
+    private final MeterRegistry meterRegistry;
 
     private static final QMember member = QMember.member;
 
+    // QueryDSL 쿼리 실행 시간 (member.query, 태그는 쿼리 이름뿐)
+    private Timer loginQueryTimer;
+    private Timer searchQueryTimer;
 
-    // 이메일 중복 체크
-    private boolean emailDuplicateCheck(String email) {
-        Long count = queryFactory
-                .select(member.count())
-                .from(member)
-                .where(member.email.eq(email))
-                .fetchOne();
+    // 회원 검색 한 페이지의 기본/최대 크기
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
 
-        return count != null && count > 0;
-    }
 
+    @PostConstruct
+    void initMetrics() {
+        loginQueryTimer = Timer.builder("member.query").tag("query", "login_credentials").register(meterRegistry);
+        searchQueryTimer = Timer.builder("member.query").tag("query", "search").register(meterRegistry);
+    }
 
     // 회원가입 로직
-    @Transactional
+    // 중복 확인 쿼리 없이 바로 저장하고, email 유니크 인덱스 위반으로 중복을 판단 (확인 후 저장 사이의 경쟁 조건 제거)
+    // save() 가 자체 트랜잭션으로 실행되므로 예외가 나도 이 메서드의 트랜잭션이 rollback-only 로 남지 않음
     public ResponseEntity<String> signup(SignupRequest signupRequest) {
-        if (emailDuplicateCheck(signupRequest.getEmail())) {
-            return ResponseEntity.badRequest().body("이미 존재하는 이메일입니다.");
-        }
-
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHashingService.encode(signupRequest.getPassword());
 
         // 회원 정보 저장
         Member newMember = Member.builder()
                 .email(signupRequest.getEmail())
                 .password(encodedPassword)
                 .name(signupRequest.getName())
+                .authorities(Authority.USER) // 관리자 권한은 가입 후 AdminAccountInitializer 또는 관리자 API 로 부여
                 .build();
 
-        memberRepository.save(newMember);
+        try {
+            memberRepository.save(newMember);
+        } catch (DataIntegrityViolationException e) {
+            if (MemberConstraints.isDuplicateEmail(e)) {
+                return ResponseEntity.badRequest().body("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
         return ResponseEntity.ok("회원가입 성공");
     }
 
     // 로그인 로직
     public LoginResponse login(LoginRequest loginRequest) {
-        Member foundMember = queryFactory.selectFrom(member)
+        // 검증과 토큰 발급에 필요한 memberId, password, authorities 만 조회 (email 유니크 인덱스 사용)
+        // 쿼리 캐시는 노드마다 따로 있어 다른 노드의 비밀번호, 권한 변경이 반영되지 않으므로 항상 DB 에서 조회
+        MemberCredentials foundMember = loginQueryTimer.record(() -> queryFactory
+                .select(Projections.constructor(MemberCredentials.class, member.memberId, member.password, member.authorities))
+                .from(member)
                 .where(member.email.eq(loginRequest.getEmail()))
-                .fetchOne();
+                .fetchOne());
 
-        if (foundMember == null || !passwordEncoder.matches(loginRequest.getPassword(), foundMember.getPassword())) {
+        if (foundMember == null || !passwordHashingService.matches(loginRequest.getPassword(), foundMember.getPassword())) {
             throw new IllegalArgumentException("이메일 또는 비밀번호가 잘못되었습니다.");
         }
 
-        // accessToken, refreshToken 생성 :: refresh 는 redis 에 저장
-        String accessToken = tokenService.makeAccessToken(foundMember.getMemberId());
-        String refreshToken = tokenService.makeRefreshToken(foundMember.getMemberId());
+        // 저장된 비밀번호가 현재 설정보다 약한 알고리즘/비용이면 로그인 성공 시 다시 암호화
+        if (passwordHashingService.needsRehash(foundMember.getPassword())) {
+            memberRepository.updatePassword(foundMember.getMemberId(), passwordHashingService.encode(loginRequest.getPassword()));
+        }
 
-        return new LoginResponse(accessToken, refreshToken);
+        // 새 세션 생성 :: accessToken(권한 포함), refreshToken 발급 후 세션은 redis 에 저장 (기존 기기의 세션은 유지)
+        return sessionService.createSession(foundMember.getMemberId(), foundMember.getAuthorities());
     }
 
-    // 로그아웃 로직 :: redis 에 있는 RT 삭제
-    public ResponseEntity<String> logout(HttpServletRequest request) {
-        String authorizationHeader = request.getHeader("Authorization");
-
-        // Bearer 제거 후 토큰 추출
-        String accessToken = authorizationHeader.substring(7);
-        if (!tokenService.validateAccessToken(accessToken)) {
+    // 로그아웃 로직 :: 현재 기기의 세션 삭제, AccessToken 폐기 (다른 기기의 세션은 유지)
+    // memberId 는 필터에서 검증된 인증 정보에서 가져오므로 DB 조회 없이 Redis 왕복 1회로 처리
+    public ResponseEntity<String> logout(Authentication authentication) {
+        Claims claims = getVerifiedClaims(authentication);
+        if (claims == null) {
             return ResponseEntity.badRequest().body("유효하지 않은 AccessToken입니다.");
         }
 
-        // AccessToken에서 memberId 추출
-        Object idValue = tokenService.getClaims(accessToken,true).get("id");
-        String memberId = String.valueOf(idValue);
+        if (sessionService.logout(claims.get("id", Long.class), claims.get(TokenService.SESSION_ID_CLAIM, String.class), claims)) {
+            return ResponseEntity.ok("로그아웃 성공");
+        } else {
+            return ResponseEntity.badRequest().body("리프레시 토큰이 존재하지 않습니다.");
+        }
+    }
 
-        Member foundMember = queryFactory.selectFrom(member)
-                .where(member.memberId.eq(Long.parseLong(memberId)))
-                .fetchOne();
+    // 로그인한 기기(세션) 목록 조회
+    public ResponseEntity<List<SessionResponse>> getSessions(Authentication authentication) {
+        Claims claims = getVerifiedClaims(authentication);
+        if (claims == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(sessionService.getSessions(claims.get("id", Long.class), claims.get(TokenService.SESSION_ID_CLAIM, String.class)));
+    }
 
-        if (foundMember == null) {
-            throw new RuntimeException("회원 정보가 없습니다.");
+    // 특정 기기의 세션 종료
+    public ResponseEntity<String> revokeSession(Authentication authentication, String sessionId) {
+        Claims claims = getVerifiedClaims(authentication);
+        if (claims == null) {
+            return ResponseEntity.badRequest().body("유효하지 않은 AccessToken입니다.");
         }
 
-        String refreshToken = tokenService.getRefreshTokenFromRedis(foundMember.getMemberId());
-        if (refreshToken != null) {
-            redisService.deleteValue("RT:" + foundMember.getMemberId());
-            return ResponseEntity.ok("로그아웃 성공");
+        if (sessionService.revokeSession(claims.get("id", Long.class), sessionId)) {
+            return ResponseEntity.ok("세션이 종료되었습니다.");
         } else {
-            return ResponseEntity.badRequest().body("리프레시 토큰이 존재하지 않습니다.");
+            return ResponseEntity.badRequest().body("세션이 존재하지 않습니다.");
+        }
+    }
+
+    // 모든 기기의 세션 종료 (현재 기기 포함)
+    public ResponseEntity<String> revokeAllSessions(Authentication authentication) {
+        Claims claims = getVerifiedClaims(authentication);
+        if (claims == null) {
+            return ResponseEntity.badRequest().body("유효하지 않은 AccessToken입니다.");
+        }
+
+        long revoked = sessionService.revokeAllSessions(List.of(claims.get("id", Long.class)));
+        return ResponseEntity.ok(revoked + "개의 세션이 종료되었습니다.");
+    }
+
+    // 회원 검색 :: 최근 가입 순 (created_at, member_id 내림차순)
+    // offset 대신 마지막으로 본 행의 (created_at, member_id) 다음부터 읽는 keyset 방식이라 깊은 페이지도 첫 페이지와 비용이 같음
+    public ResponseEntity<MemberSearchResponse> search(MemberSearchCondition condition) {
+        int size = condition.getSize() == null ? DEFAULT_SEARCH_SIZE : Math.max(1, Math.min(condition.getSize(), MAX_SEARCH_SIZE));
+
+        BooleanBuilder where = new BooleanBuilder();
+        if (StringUtils.hasText(condition.getEmailPrefix())) {
+            where.and(member.email.startsWith(condition.getEmailPrefix())); // email 유니크 인덱스 범위 조회
+        }
+        if (StringUtils.hasText(condition.getName())) {
+            where.and(member.name.eq(condition.getName())); // (name, created_at, member_id) 인덱스 사용
+        }
+        if (condition.getCreatedFrom() != null) {
+            where.and(member.createdAt.goe(condition.getCreatedFrom()));
+        }
+        if (condition.getCreatedTo() != null) {
+            where.and(member.createdAt.lt(condition.getCreatedTo()));
+        }
+        if (StringUtils.hasText(condition.getCursor())) {
+            Cursor cursor = Cursor.decode(condition.getCursor());
+            if (cursor == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            // created_at <= c 를 함께 주어 인덱스 범위 조회의 시작 위치로 사용
+            where.and(member.createdAt.loe(cursor.createdAt()))
+                    .and(member.createdAt.lt(cursor.createdAt()).or(member.memberId.lt(cursor.memberId())));
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<MemberSummary> members = searchQueryTimer.record(() -> queryFactory
+                .select(Projections.constructor(MemberSummary.class, member.memberId, member.email, member.name, member.createdAt))
+                .from(member)
+                .where(where)
+                .orderBy(member.createdAt.desc(), member.memberId.desc())
+                .limit(size + 1)
+                .fetch());
+
+        String nextCursor = null;
+        if (members.size() > size) {
+            members = members.subList(0, size);
+            MemberSummary last = members.get(size - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getMemberId()).encode();
+        }
+        return ResponseEntity.ok(new MemberSearchResponse(members, nextCursor));
+    }
+
+    // 검색 페이지 위치 :: 마지막으로 반환한 행의 정렬 키를 URL-safe 문자열로 전달
+    private record Cursor(LocalDateTime createdAt, Long memberId) {
+        String encode() {
+            String value = createdAt + "|" + memberId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 형식이 잘못되었으면 null
+        static Cursor decode(String encoded) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split("\\|");
+                return parts.length == 2 ? new Cursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1])) : null;
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    // 필터에서 검증된 AccessToken 의 Claims 반환 :: 인증 정보가 없거나 유효하지 않으면 null
+    private Claims getVerifiedClaims(Authentication authentication) {
+        if (authentication == null || !(authentication instanceof TokenAuthentication)) {
+            return null;
         }
+        return tokenService.getClaims(authentication);
     }
 
 }
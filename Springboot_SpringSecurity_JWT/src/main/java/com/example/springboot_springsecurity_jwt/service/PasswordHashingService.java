@@ -0,0 +1,128 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해싱 서비스 클래스
+ * encode, matches 를 전용 스레드 풀에서 실행하여 동시에 실행되는 해싱 수를 제한
+ * 스레드 풀 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 TooManyRequestsException(429)
+ * 해싱 시간(대기열 대기 제외)은 auth.password.hash, 거절 횟수는 auth.password.rejected 로 기록
+ */
+@Service
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor importExecutor;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer importEncodeTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") ThreadPoolExecutor executor,
+                                  @Qualifier("importHashingExecutor") ThreadPoolExecutor importExecutor,
+                                  @Value("${password.hashing.timeout-millis:5000}") long timeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.importExecutor = importExecutor;
+        this.timeoutMillis = timeoutMillis;
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("operation", "matches").register(meterRegistry);
+        this.importEncodeTimer = Timer.builder("auth.password.hash").tag("operation", "import_encode").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected").register(meterRegistry);
+
+        // 스레드 풀 크기, 대기열 길이, 완료 작업 수 (executor.* 메트릭)
+        // 작업을 감싸지 않도록 executor 를 래핑하지 않고 게이지만 등록
+        new ExecutorServiceMetrics(executor, "password-hashing", Collections.emptyList()).bindTo(meterRegistry);
+        new ExecutorServiceMetrics(importExecutor, "import-hashing", Collections.emptyList()).bindTo(meterRegistry);
+    }
+
+    // 비밀번호 암호화
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // 비밀번호 일치 여부 확인
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 여러 비밀번호를 일괄 등록용 스레드 풀에서 병렬로 암호화 :: 입력과 같은 순서로 반환
+    // 제한 시간 없이 모두 끝날 때까지 기다림 (요청 한 건이 아닌 대량 작업용)
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(importExecutor.submit(() -> importEncodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+        }
+
+        List<String> encodedPasswords = new ArrayList<>(rawPasswords.size());
+        try {
+            for (Future<String> future : futures) {
+                encodedPasswords.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+        return encodedPasswords;
+    }
+
+    // 저장된 값이 현재 설정보다 약한 알고리즘/비용이면 true :: 해싱 없이 접두사와 비용만 확인하므로 바로 실행
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RateLimitService 클래스
+ * Redis 에 저장한 token bucket 으로 IP, 이메일별 요청 횟수를 제한
+ * bucket 마다 key 하나짜리 Lua 스크립트로 확인과 차감을 원자적으로 처리
+ * key 마다 hash tag 가 달라 클러스터에서 bucket 이 여러 슬롯에 나뉘어 저장됨 (모든 요청이 한 슬롯에 몰리지 않음)
+ * IP bucket 과 email bucket 을 하나의 파이프라인으로 함께 확인하여 요청당 Redis 왕복은 1회
+ * (두 bucket 을 동시에 확인하므로 한쪽에서 거절되어도 다른 쪽 토큰은 차감된 상태로 남음)
+ * 시간은 Redis 서버 시간(TIME)을 사용하여 노드 간 시계 차이의 영향을 받지 않음
+ * Redis 장애 중에는 요청을 허용하고, 경고는 장애가 시작될 때와 복구될 때 한 번씩만 기록
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+
+    // bucket 하나의 토큰이 부족하면 차감하지 않고 대기 시간(ms)을, 충분하면 차감 후 0 을 반환
+    // KEYS[1] = bucket, ARGV = 용량, ms 당 충전량
+    public static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local bucket = redis.call('HMGET', KEYS[1], 't', 'ts')
+            local available = tonumber(bucket[1])
+            local updatedAt = tonumber(bucket[2])
+            if available == nil then
+                available = capacity
+                updatedAt = now
+            end
+            available = math.min(capacity, available + math.max(0, now - updatedAt) * rate)
+            if available < 1 then
+                return math.ceil((1 - available) / rate)
+            end
+            redis.call('HSET', KEYS[1], 't', tostring(available - 1), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate))
+            return 0
+            """, Long.class);
+
+    // 파이프라인 안에서는 EVALSHA 가 NOSCRIPT 로 실패해도 EVAL 로 다시 보낼 수 없으므로 스크립트 본문을 EVAL 로 전송
+    // (짧은 스크립트라 전송량 차이는 작고, Redis 는 같은 본문의 컴파일 결과를 재사용)
+    private static final byte[] TOKEN_BUCKET_SCRIPT_BYTES = TOKEN_BUCKET_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+    private static final String KEY_PREFIX = "RL:";
+
+    // 한 bucket 의 key 와 (용량, ms 당 충전량)
+    private record Bucket(String key, String capacity, String ratePerMillis) {
+    }
+
+    private final RedisService redisService;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String ipCapacity;
+    private final String ipRatePerMillis;
+    private final String emailCapacity;
+    private final String emailRatePerMillis;
+    private final int maxBodyBytes;
+
+    // Redis 장애로 요청을 허용하는 중인지 여부 :: 상태가 바뀔 때만 로그를 남기기 위해 사용
+    private final AtomicBoolean failingOpen = new AtomicBoolean();
+
+    public RateLimitService(RedisService redisService,
+                            ReactiveStringRedisTemplate reactiveRedisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${rate-limit.enabled:true}") boolean enabled,
+                            @Value("${rate-limit.ip.capacity:20}") long ipCapacity,
+                            @Value("${rate-limit.ip.refill-per-minute:20}") long ipRefillPerMinute,
+                            @Value("${rate-limit.email.capacity:5}") long emailCapacity,
+                            @Value("${rate-limit.email.refill-per-minute:5}") long emailRefillPerMinute,
+                            @Value("${rate-limit.max-body-bytes:4096}") int maxBodyBytes) {
+        this.redisService = redisService;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipCapacity = String.valueOf(ipCapacity);
+        this.ipRatePerMillis = String.valueOf(ipRefillPerMinute / 60000.0);
+        this.emailCapacity = String.valueOf(emailCapacity);
+        this.emailRatePerMillis = String.valueOf(emailRefillPerMinute / 60000.0);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    // 요청 횟수 제한을 위해 읽는 본문의 최대 크기 :: 넘으면 읽지 않고 413 응답
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    // 요청 허용 여부 확인 :: 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 시간(ms, 거절한 bucket 중 가장 긴 시간)
+    // email 이 없으면 IP 만 확인하고, Redis 장애 시에는 로그인 자체를 막지 않도록 허용
+    public long tryAcquire(String action, String ip, String email) {
+        if (!enabled) {
+            return 0;
+        }
+
+        List<Bucket> buckets = buckets(action, ip, email);
+        try {
+            // bucket 마다 key 하나짜리 스크립트라 클러스터에서 슬롯이 달라도 한 파이프라인으로 전송 가능
+            List<Object> results = redisService.executePipelined(operations -> buckets.forEach(bucket ->
+                    operations.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                            TOKEN_BUCKET_SCRIPT_BYTES, ReturnType.INTEGER, 1,
+                            bytes(bucket.key()), bytes(bucket.capacity()), bytes(bucket.ratePerMillis())))));
+            long waitMillis = 0;
+            for (Object result : results) {
+                if (result instanceof Long wait) {
+                    waitMillis = Math.max(waitMillis, wait);
+                }
+            }
+            recovered();
+            return waitMillis;
+        } catch (RuntimeException e) {
+            failOpen(e);
+            return 0;
+        }
+    }
+
+    // tryAcquire 의 reactive 버전 (reactive 프로필의 WebFilter 에서 사용)
+    public Mono<Long> tryAcquireReactive(String action, String ip, String email) {
+        if (!enabled) {
+            return Mono.just(0L);
+        }
+
+        // 두 스크립트를 응답을 기다리지 않고 함께 전송 (Lettuce 가 한 연결에서 연달아 보내므로 왕복 1회)
+        return Flux.fromIterable(buckets(action, ip, email))
+                .flatMap(bucket -> reactiveRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(bucket.key()),
+                                List.of(bucket.capacity(), bucket.ratePerMillis()))
+                        .next()
+                        .defaultIfEmpty(0L))
+                .reduce(0L, Math::max)
+                .doOnSuccess(waitMillis -> recovered())
+                .onErrorResume(e -> {
+                    failOpen(e);
+                    return Mono.just(0L);
+                });
+    }
+
+    // JSON 요청 본문에서 email 값 추출 :: 형식이 잘못된 경우 null (IP 기준으로만 제한)
+    public String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // IP bucket 과, email 이 있으면 email bucket :: key 전체를 hash tag 로 감싸 bucket 마다 다른 슬롯에 배치
+    private List<Bucket> buckets(String action, String ip, String email) {
+        List<Bucket> buckets = new ArrayList<>(2);
+        buckets.add(new Bucket(bucketKey(action, "ip", ip), ipCapacity, ipRatePerMillis));
+        if (email != null && !email.isBlank()) {
+            buckets.add(new Bucket(bucketKey(action, "email", email.trim().toLowerCase()), emailCapacity, emailRatePerMillis));
+        }
+        return buckets;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static String bucketKey(String action, String type, String value) {
+        return KEY_PREFIX + "{" + action + ":" + type + ":" + value + "}";
+    }
+
+    // Redis 를 사용할 수 없어 요청을 허용 :: 장애가 시작될 때만 경고 (요청마다 stack trace 를 남기지 않음)
+    private void failOpen(Throwable e) {
+        if (failingOpen.compareAndSet(false, true)) {
+            log.warn("요청 횟수 제한을 확인할 수 없어 복구될 때까지 요청을 허용합니다: {}", e.toString());
+        }
+    }
+
+    private void recovered() {
+        if (failingOpen.compareAndSet(true, false)) {
+            log.info("요청 횟수 제한 확인이 복구되었습니다.");
+        }
+    }
+}
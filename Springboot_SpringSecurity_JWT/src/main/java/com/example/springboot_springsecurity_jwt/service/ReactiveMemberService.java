@@ -0,0 +1,161 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.cache.RefreshTokenNearCache;
+import com.example.springboot_springsecurity_jwt.dto.LoginRequest;
+import com.example.springboot_springsecurity_jwt.dto.LoginResponse;
+import com.example.springboot_springsecurity_jwt.dto.SignupRequest;
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import com.example.springboot_springsecurity_jwt.repository.MemberConstraints;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * ReactiveMemberService 클래스
+ * reactive 프로필에서 MemberService 를 대신하는 서비스
+ * 회원 정보는 R2DBC(DatabaseClient), 세션은 ReactiveStringRedisTemplate 으로 처리 (SessionService 와 같은 Lua 스크립트 사용)
+ * 응답 내용과 실패 시 동작은 MemberService 와 같음
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveMemberService {
+    private final DatabaseClient databaseClient;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final TokenService tokenService;
+    private final SessionService sessionService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordHashingService passwordHashingService;
+    private final ObjectProvider<RefreshTokenNearCache> refreshTokenNearCache;
+
+    private record Credentials(Long memberId, String password, long authorities) {
+    }
+
+    // 회원가입 로직 :: 중복 확인 쿼리 없이 저장하고 email 유니크 인덱스 위반으로 중복 판단
+    public Mono<ResponseEntity<String>> signup(SignupRequest signupRequest) {
+        return encode(signupRequest.getPassword())
+                .flatMap(encodedPassword -> databaseClient.sql("""
+                                INSERT INTO member (email, password, name, authorities, created_at, updated_at)
+                                VALUES (:email, :password, :name, :authorities, NOW(6), NOW(6))
+                                """)
+                        .bind("email", signupRequest.getEmail())
+                        .bind("password", encodedPassword)
+                        .bind("name", signupRequest.getName())
+                        .bind("authorities", Authority.USER) // 관리자 권한은 가입 후 부여
+                        .fetch()
+                        .rowsUpdated())
+                .thenReturn(ResponseEntity.ok("회원가입 성공"))
+                .onErrorResume(DataIntegrityViolationException.class, e -> MemberConstraints.isDuplicateEmail(e)
+                        ? Mono.just(ResponseEntity.badRequest().body("이미 존재하는 이메일입니다."))
+                        : Mono.error(e));
+    }
+
+    // 로그인 로직
+    public Mono<LoginResponse> login(LoginRequest loginRequest) {
+        return databaseClient.sql("SELECT member_id, password, authorities FROM member WHERE email = :email")
+                .bind("email", loginRequest.getEmail())
+                .map(row -> new Credentials(row.get("member_id", Long.class), row.get("password", String.class),
+                        row.get("authorities", Long.class)))
+                .one()
+                .filterWhen(credentials -> matches(loginRequest.getPassword(), credentials.password()))
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("이메일 또는 비밀번호가 잘못되었습니다.")))
+                .flatMap(credentials -> rehashIfNeeded(credentials, loginRequest.getPassword()).thenReturn(credentials))
+                .flatMap(credentials -> {
+                    // 새 세션 생성 :: accessToken, refreshToken 발급 후 세션은 redis 에 저장
+                    SessionService.NewSession session = sessionService.newSession(credentials.memberId(), credentials.authorities());
+                    return saveSession(session)
+                            .thenReturn(new LoginResponse(session.accessToken(), session.refreshToken()));
+                });
+    }
+
+    // 로그아웃 로직 :: 현재 기기의 세션 삭제, AccessToken 폐기
+    public Mono<ResponseEntity<String>> logout(ServerHttpRequest request) {
+        String authorizationHeader = request.getHeaders().getFirst("Authorization");
+
+        // Bearer 제거 후 토큰 추출
+        String accessToken = authorizationHeader.substring(7);
+        TokenVerification verification = tokenService.verifyAccessToken(accessToken);
+        if (!verification.isValid()) {
+            return Mono.just(ResponseEntity.badRequest().body("유효하지 않은 AccessToken입니다."));
+        }
+        Claims claims = verification.getClaims();
+
+        // memberId 는 검증된 토큰에서 가져오므로 DB 조회 없이 처리
+        Long memberId = verification.getMemberId();
+        String sessionId = verification.getSessionId();
+        if (sessionId == null) {
+            return revoke(claims).thenReturn(ResponseEntity.badRequest().body("리프레시 토큰이 존재하지 않습니다."));
+        }
+        return revoke(claims)
+                .then(redisTemplate.opsForHash().remove(SessionService.sessionKey(memberId), sessionId))
+                .filter(deleted -> deleted > 0)
+                .flatMap(deleted -> afterSessionDeleted(memberId, sessionId)
+                        .thenReturn(ResponseEntity.ok("로그아웃 성공")))
+                .defaultIfEmpty(ResponseEntity.badRequest().body("리프레시 토큰이 존재하지 않습니다."));
+    }
+
+    // 세션 저장 후 near-cache 사용 시 다른 노드에 변경 알림
+    private Mono<Void> saveSession(SessionService.NewSession session) {
+        String key = SessionService.sessionKey(session.memberId());
+        return redisTemplate.execute(SessionService.CREATE_SESSION_SCRIPT, List.of(key), session.scriptArgs())
+                .then(invalidateNearCache(key));
+    }
+
+    // 세션 삭제 후 재발급 공유 토큰과 near-cache 항목 제거
+    private Mono<Void> afterSessionDeleted(Long memberId, String sessionId) {
+        return redisTemplate.delete(TokenRefreshService.sharedAccessTokenKey(memberId, sessionId))
+                .then(invalidateNearCache(SessionService.sessionKey(memberId)));
+    }
+
+    private Mono<Void> invalidateNearCache(String key) {
+        RefreshTokenNearCache nearCache = refreshTokenNearCache.getIfAvailable();
+        if (nearCache == null) {
+            return Mono.empty();
+        }
+        nearCache.evict(List.of(key));
+        return redisTemplate.convertAndSend(RefreshTokenNearCache.INVALIDATION_CHANNEL, key).then();
+    }
+
+    // AccessToken 폐기 :: 로그아웃에서만 사용되므로 기존 블로킹 구현을 별도 스레드에서 실행
+    private Mono<Void> revoke(Claims claims) {
+        return Mono.fromRunnable(() -> tokenRevocationService.revoke(claims.getId(), claims.getExpiration()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    // 비밀번호 해싱은 전용 스레드 풀에서 실행되며, 완료를 기다리는 동안 이벤트 루프를 점유하지 않도록 별도 스레드에서 대기
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordHashingService.encode(rawPassword))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordHashingService.matches(rawPassword, encodedPassword))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 저장된 비밀번호가 현재 설정보다 약한 알고리즘/비용이면 다시 암호화
+    private Mono<Void> rehashIfNeeded(Credentials credentials, String rawPassword) {
+        if (!passwordHashingService.needsRehash(credentials.password())) {
+            return Mono.empty();
+        }
+        return encode(rawPassword)
+                .flatMap(encodedPassword -> databaseClient.sql("UPDATE member SET password = :password WHERE member_id = :memberId")
+                        .bind("password", encodedPassword)
+                        .bind("memberId", credentials.memberId())
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+}
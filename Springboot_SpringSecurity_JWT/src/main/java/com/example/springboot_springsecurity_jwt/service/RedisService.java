@@ -1,32 +1,233 @@
 package com.example.springboot_springsecurity_jwt.service;
 
-import lombok.RequiredArgsConstructor;
+import com.example.springboot_springsecurity_jwt.exception.RedisUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Redis 서비스 클래스
  * Redis에 데이터를 저장, 조회 및 삭제하는 기능 제공
+ * 메서드별 소요 시간(직렬화, 커넥션 대기 포함)을 redis.operation 으로 기록
+ * 세션 조회처럼 약간의 복제 지연을 허용하는 읽기만 replicaRedisTemplate 으로 전송 (redis.read-from 설정 시 replica)
+ * 모든 명령은 circuit breaker 를 거치며, breaker 가 열려 있거나 연결/응답 시간 초과로 실패하면 RedisUnavailableException
  */
 @Service
-@RequiredArgsConstructor
 public class RedisService {
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> replicaRedisTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+
+    // 메트릭 태그로 사용하는 작업 종류 (key 는 태그로 사용하지 않음)
+    private enum Operation {
+        SET, SET_IF_ABSENT, GET, HGETALL, EXISTS, SCAN, DELETE, PUBLISH, SCRIPT, MGET, PIPELINE
+    }
+
+    public RedisService(@Qualifier("redisTemplate") RedisTemplate<String, Object> redisTemplate,
+                        @Qualifier("replicaRedisTemplate") RedisTemplate<String, Object> replicaRedisTemplate,
+                        CircuitBreaker redisCircuitBreaker,
+                        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.circuitBreaker = redisCircuitBreaker;
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, Timer.builder("redis.operation")
+                    .tag("operation", operation.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    // 값이 일치할 때만 삭제하는 스크립트 (락 소유자만 락을 해제하기 위해 사용)
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
 
     // Redis에 데이터를 저장 (만료 시간 설정)
     public void saveValue(String key, String value, long duration, TimeUnit timeUnit) {
-        redisTemplate.opsForValue().set(key, value, duration, timeUnit);
+        run(Operation.SET, () -> redisTemplate.opsForValue().set(key, value, duration, timeUnit));
+    }
+
+    // 키가 없을 때만 저장 (SET NX PX) :: 저장에 성공하면 true
+    public boolean saveValueIfAbsent(String key, String value, long duration, TimeUnit timeUnit) {
+        return Boolean.TRUE.equals(execute(Operation.SET_IF_ABSENT, () -> redisTemplate.opsForValue().setIfAbsent(key, value, duration, timeUnit)));
     }
 
     // Redis에서 데이터를 조회
     public String getValue(String key) {
-        return (String) redisTemplate.opsForValue().get(key);
+        return (String) execute(Operation.GET, () -> redisTemplate.opsForValue().get(key));
+    }
+
+    // 해시의 모든 필드와 값 조회 (HGETALL) :: key 가 없으면 빈 Map
+    public Map<String, String> getHash(String key) {
+        return getHash(redisTemplate, key);
+    }
+
+    // getHash 와 같지만 replica 에서 읽을 수 있음 :: 방금 기록한 값이 보이지 않을 수 있으므로 복제 지연을 허용하는 조회에만 사용
+    public Map<String, String> getHashFromReplica(String key) {
+        return getHash(replicaRedisTemplate, key);
+    }
+
+    private Map<String, String> getHash(RedisTemplate<String, Object> template, String key) {
+        Map<String, String> result = new HashMap<>();
+        execute(Operation.HGETALL, () -> template.opsForHash().entries(key)).forEach((field, value) -> result.put((String) field, (String) value));
+        return result;
+    }
+
+    // Cluster 구성 여부 :: 여러 key 를 다루는 스크립트는 key 들이 같은 slot 에 있어야 함
+    public boolean isCluster() {
+        return redisTemplate.getRequiredConnectionFactory() instanceof LettuceConnectionFactory factory && factory.isClusterAware();
+    }
+
+    // key 존재 여부 확인
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(execute(Operation.EXISTS, () -> redisTemplate.hasKey(key)));
+    }
+
+    // 패턴과 일치하는 key 를 SCAN 으로 순회 (KEYS 와 달리 Redis 를 블로킹하지 않음) :: 순회한 key 수 반환
+    // Cluster 는 노드마다 key 공간이 나뉘어 있으므로 master 노드를 하나씩 순회
+    // 전체 순회는 원래 오래 걸리므로 느린 호출로 집계하지 않도록 breaker 를 거치지 않고, breaker 가 열려 있을 때만 실행하지 않음
+    public long scanKeys(String pattern, Consumer<String> consumer) {
+        if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            throw new RedisUnavailableException("Redis circuit breaker 가 열려 있어 SCAN 을 실행하지 않습니다.");
+        }
+        long start = System.nanoTime();
+        long count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+        if (isCluster()) {
+            RedisConnectionFactory connectionFactory = redisTemplate.getRequiredConnectionFactory();
+            try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+                for (RedisClusterNode node : connection.clusterGetNodes()) {
+                    if (!node.isMaster()) {
+                        continue;
+                    }
+                    try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                        while (cursor.hasNext()) {
+                            consumer.accept(new String(cursor.next(), StandardCharsets.UTF_8));
+                            count++;
+                        }
+                    }
+                }
+            }
+        } else {
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    consumer.accept(cursor.next());
+                    count++;
+                }
+            }
+        }
+        timers.get(Operation.SCAN).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return count;
     }
 
     // Redis에서 데이터를 삭제
     public void deleteValue(String key) {
-        redisTemplate.delete(key);
+        execute(Operation.DELETE, () -> redisTemplate.delete(key));
+    }
+
+    // 채널에 메시지 발행 (PUBLISH)
+    public void publish(String channel, String message) {
+        execute(Operation.PUBLISH, () -> redisTemplate.convertAndSend(channel, message));
+    }
+
+    // Lua 스크립트 실행 (EVALSHA) :: args 는 문자열로 직렬화되므로 String 으로 전달
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return execute(Operation.SCRIPT, () -> redisTemplate.execute(script, keys, args));
+    }
+
+    // 저장된 값이 value 와 같을 때만 원자적으로 삭제 :: 삭제했으면 true
+    public boolean deleteValueIfEquals(String key, String value) {
+        Long deleted = executeScript(DELETE_IF_EQUALS_SCRIPT, Collections.singletonList(key), value);
+        return deleted != null && deleted > 0;
+    }
+
+    // 여러 key 를 한 번에 조회 (MGET) :: keys 순서대로 반환하며 없는 key 는 null
+    public List<String> getValues(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> values = execute(Operation.MGET, () -> redisTemplate.opsForValue().multiGet(keys));
+        List<String> result = new ArrayList<>(keys.size());
+        if (values != null) {
+            values.forEach(value -> result.add((String) value));
+        }
+        return result;
+    }
+
+    // 여러 key 를 같은 만료 시간으로 저장 :: MSET 은 만료 시간을 지원하지 않으므로 SET PX 를 파이프라인으로 전송
+    public void saveValues(Map<String, String> values, long duration, TimeUnit timeUnit) {
+        if (values.isEmpty()) {
+            return;
+        }
+        executePipelined(operations -> values.forEach((key, value) ->
+                operations.opsForValue().set(key, value, duration, timeUnit)));
+    }
+
+    // 여러 key 를 한 번에 삭제 (DEL key [key ...]) :: 삭제된 key 수 반환
+    public long deleteValues(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = execute(Operation.DELETE, () -> redisTemplate.delete(keys));
+        return deleted != null ? deleted : 0;
+    }
+
+    // 여러 명령을 한 번의 왕복으로 전송 (파이프라인)
+    // 콜백 안의 명령 결과는 실행 시점이 아닌 반환되는 목록으로 명령 순서대로 전달됨
+    public List<Object> executePipelined(Consumer<RedisOperations<String, Object>> commands) {
+        return execute(Operation.PIPELINE, () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null; // 파이프라인 콜백은 반드시 null 을 반환해야 함
+            }
+        }));
+    }
+
+    // 명령 실행 :: circuit breaker 로 실패율과 느린 호출 비율을 집계하고, 소요 시간은 operation 별 Timer 로 기록
+    private <T> T execute(Operation operation, Supplier<T> command) {
+        try {
+            return circuitBreaker.executeSupplier(() -> timers.get(operation).record(command));
+        } catch (CallNotPermittedException | RedisConnectionFailureException | QueryTimeoutException e) {
+            throw new RedisUnavailableException(e); // breaker 가 열렸거나 연결 실패, 응답 시간 초과
+        }
+    }
+
+    private void run(Operation operation, Runnable command) {
+        execute(operation, () -> {
+            command.run();
+            return null;
+        });
     }
 }
@@ -0,0 +1,354 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.cache.RefreshTokenNearCache;
+import com.example.springboot_springsecurity_jwt.dto.LoginResponse;
+import com.example.springboot_springsecurity_jwt.dto.SessionResponse;
+import com.example.springboot_springsecurity_jwt.exception.RedisUnavailableException;
+import com.example.springboot_springsecurity_jwt.util.TokenIds;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 세션 서비스 클래스
+ * 회원마다 Redis 해시 하나(SESS:{memberId})에 기기별 세션을 저장하여 여러 기기의 동시 로그인 지원
+ * 필드는 세션 ID(12자), 값은 "RefreshToken jti:생성 시각:마지막 사용 시각"(초) 형태의 짧은 문자열로 저장하여
+ * 해시가 listpack 인코딩(필드/값 64바이트 이하)을 유지하도록 함
+ * 세션은 마지막 사용 후 RefreshToken 유효 기간(30일)이 지나면 만료되며, 토큰 재발급 시 만료 시각이 연장됨
+ * Redis 를 사용할 수 없는 동안의 로그인은 토큰을 먼저 발급하고 세션 저장을 대기열에 넣어 Redis 가 복구되면 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+    private final RedisService redisService;
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ObjectProvider<RefreshTokenNearCache> refreshTokenNearCacheProvider;
+    private final MeterRegistry meterRegistry;
+
+    // 회원당 최대 세션 수 :: 넘으면 가장 오래 사용하지 않은 세션부터 제거
+    @Value("${session.max-per-member:10}")
+    private int maxSessionsPerMember;
+
+    // 마지막 사용 시각 갱신 간격 :: 재발급마다 쓰지 않고 이 간격이 지난 경우에만 갱신
+    @Value("${session.touch-interval-seconds:3600}")
+    private long touchIntervalSeconds;
+
+    // Redis 장애 중 저장하지 못한 세션을 보관할 최대 수 :: 가득 차면 로그인을 503 으로 거절
+    @Value("${redis.circuit-breaker.pending-session-capacity:10000}")
+    private int pendingSessionCapacity;
+
+    // 세션 해시 near-cache (비활성화 시 null)
+    private RefreshTokenNearCache refreshTokenNearCache;
+
+    // 저장을 기다리는 세션 (노드 메모리에만 보관하므로 노드가 재시작되면 해당 세션은 다시 로그인해야 함)
+    private BlockingQueue<NewSession> pendingSessions;
+
+    // 한 번의 DEL 명령에 담을 최대 key 수 :: Redis 를 오래 점유하지 않도록 나누어 전송
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    // 마지막 사용 후 세션이 유지되는 시간 (RefreshToken 유효 기간과 같음)
+    private static final long IDLE_TIMEOUT_SECONDS = TokenService.REFRESH_TOKEN_EXPIRE_TIME / 1000;
+
+    // 세션 생성 :: 만료되었거나 최대 수를 넘는 세션을 정리한 뒤 새 세션 저장과 만료 시간 연장을 원자적으로 처리
+    // KEYS[1] = 세션 해시, ARGV = 세션 ID, 값, 해시 만료 시간(ms), 최대 세션 수, 현재 시각(초), 유휴 만료 시간(초)
+    public static final RedisScript<Long> CREATE_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[5])
+            local idle = tonumber(ARGV[6])
+            local live = {}
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+                local lastUsed = tonumber(string.match(entries[i + 1], ':(%d+)$'))
+                if lastUsed == nil or now - lastUsed > idle then
+                    redis.call('HDEL', KEYS[1], entries[i])
+                else
+                    table.insert(live, { entries[i], lastUsed })
+                end
+            end
+            local max = tonumber(ARGV[4])
+            if #live >= max then
+                table.sort(live, function(a, b) return a[2] < b[2] end)
+                for i = 1, #live - max + 1 do
+                    redis.call('HDEL', KEYS[1], live[i][1])
+                end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 세션 사용 시각 갱신 :: 세션이 없거나 유휴 만료되었으면 nil, 있으면 갱신한 값 반환
+    // KEYS[1] = 세션 해시, ARGV = 세션 ID, 현재 시각(초), 해시 만료 시간(ms), 유휴 만료 시간(초)
+    public static final RedisScript<String> TOUCH_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return nil
+            end
+            local tokenId, createdAt, lastUsed = string.match(value, '^([^:]+):(%d+):(%d+)$')
+            if not lastUsed or tonumber(ARGV[2]) - tonumber(lastUsed) > tonumber(ARGV[4]) then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return nil
+            end
+            local touched = tokenId .. ':' .. createdAt .. ':' .. ARGV[2]
+            redis.call('HSET', KEYS[1], ARGV[1], touched)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return touched
+            """, String.class);
+
+    // 새로 만든 세션과 토큰, 저장 스크립트 인자 (reactive 서비스에서도 같은 스크립트로 저장)
+    public record NewSession(Long memberId, String sessionId, String accessToken, String refreshToken, List<String> scriptArgs) {
+    }
+
+    // 해시에 저장된 세션 정보 (같은 패키지의 테스트에서 형식 확인에 사용)
+    record Session(String sessionId, long createdAt, long lastUsedAt) {
+        static Session parse(String sessionId, String value) {
+            String[] parts = value.split(":");
+            return new Session(sessionId, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        }
+
+        boolean isExpired(long nowSeconds) {
+            return nowSeconds - lastUsedAt > IDLE_TIMEOUT_SECONDS;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        refreshTokenNearCache = refreshTokenNearCacheProvider.getIfAvailable();
+        pendingSessions = new ArrayBlockingQueue<>(pendingSessionCapacity);
+        Gauge.builder("session.pending.writes", pendingSessions, BlockingQueue::size).register(meterRegistry);
+    }
+
+    // 세션 해시의 값이 유휴 만료되지 않았으면 true :: refreshTokenId 가 있으면 저장된 RefreshToken jti 와 같은지도 확인
+    public static boolean isLiveSession(String value, String refreshTokenId, long nowSeconds) {
+        if (value == null) {
+            return false;
+        }
+        if (refreshTokenId != null && !value.startsWith(refreshTokenId + ":")) {
+            return false;
+        }
+        return !Session.parse(null, value).isExpired(nowSeconds);
+    }
+
+    // 회원의 세션 해시 key :: hash tag 로 같은 회원의 세션 관련 key 를 한 슬롯에 배치
+    public static String sessionKey(Long memberId) {
+        return "SESS:{" + memberId + "}";
+    }
+
+    // 세션과 AccessToken, RefreshToken 생성 (저장 전)
+    public NewSession newSession(Long memberId, long authorities) {
+        String sessionId = TokenIds.newSessionId();
+        String refreshTokenId = TokenIds.newTokenId();
+        long now = Instant.now().getEpochSecond();
+        List<String> args = List.of(
+                sessionId,
+                refreshTokenId + ":" + now + ":" + now,
+                String.valueOf(TokenService.REFRESH_TOKEN_EXPIRE_TIME),
+                String.valueOf(maxSessionsPerMember),
+                String.valueOf(now),
+                String.valueOf(IDLE_TIMEOUT_SECONDS));
+        return new NewSession(memberId, sessionId,
+                tokenService.makeAccessToken(memberId, sessionId, authorities),
+                tokenService.createRefreshToken(memberId, sessionId, refreshTokenId),
+                args);
+    }
+
+    // 로그인 :: 새 세션을 Lua 스크립트 한 번으로 저장하고 토큰 반환
+    // Redis 를 사용할 수 없으면 세션 저장을 대기열에 넣고 토큰은 그대로 발급
+    // (AccessToken 은 바로 사용 가능하고, 재발급은 세션이 저장된 뒤부터 가능)
+    public LoginResponse createSession(Long memberId, long authorities) {
+        NewSession session = newSession(memberId, authorities);
+        try {
+            saveSession(session);
+        } catch (RedisUnavailableException e) {
+            if (!pendingSessions.offer(session)) {
+                throw e; // 대기열도 가득 찼으면 503
+            }
+            log.warn("Redis 를 사용할 수 없어 세션 저장을 미룹니다. memberId={}, 대기 중 {}건", memberId, pendingSessions.size());
+        }
+        return new LoginResponse(session.accessToken(), session.refreshToken());
+    }
+
+    // 대기 중인 세션을 순서대로 저장 :: Redis 를 아직 사용할 수 없으면 남은 세션은 다음 실행에서 다시 시도
+    // 스케줄러 스레드 하나만 꺼내므로 peek 후 저장에 성공한 경우에만 제거
+    @Scheduled(fixedDelayString = "${redis.circuit-breaker.replay-interval-millis:1000}")
+    public void replayPendingSessions() {
+        NewSession session;
+        int saved = 0;
+        while ((session = pendingSessions.peek()) != null) {
+            try {
+                saveSession(session);
+            } catch (RedisUnavailableException e) {
+                break;
+            }
+            pendingSessions.poll();
+            saved++;
+        }
+        if (saved > 0) {
+            log.info("미뤄진 세션 {}건을 저장했습니다. 남은 세션 {}건", saved, pendingSessions.size());
+        }
+    }
+
+    private void saveSession(NewSession session) {
+        String key = sessionKey(session.memberId());
+        redisService.executeScript(CREATE_SESSION_SCRIPT, List.of(key), session.scriptArgs().toArray());
+        invalidateNearCache(List.of(key));
+    }
+
+    // 토큰 재발급 전 세션 확인 :: 살아있는 세션이면 true
+    // 마지막 사용 시각이 갱신 간격보다 오래되었을 때만 Redis 에 기록하여 만료 시각을 연장
+    public boolean refreshSession(Long memberId, String sessionId) {
+        if (sessionId == null) {
+            return false; // 세션 정보가 없는 이전 형식의 토큰
+        }
+        long now = Instant.now().getEpochSecond();
+        String value = getSessionValues(memberId).get(sessionId);
+        if (value == null) {
+            return false;
+        }
+        Session session = Session.parse(sessionId, value);
+        if (session.isExpired(now)) {
+            return false;
+        }
+        if (now - session.lastUsedAt() < touchIntervalSeconds) {
+            return true;
+        }
+
+        try {
+            String touched = redisService.executeScript(TOUCH_SESSION_SCRIPT, List.of(sessionKey(memberId)), touchArgs(sessionId, now).toArray());
+            invalidateNearCache(List.of(sessionKey(memberId)));
+            return touched != null;
+        } catch (RedisUnavailableException e) {
+            return true; // 살아있는 세션은 확인했으므로 사용 시각 갱신은 다음 재발급으로 미룸
+        }
+    }
+
+    // 세션 사용 시각 갱신 스크립트 인자
+    public List<String> touchArgs(String sessionId, long nowSeconds) {
+        return List.of(sessionId, String.valueOf(nowSeconds),
+                String.valueOf(TokenService.REFRESH_TOKEN_EXPIRE_TIME), String.valueOf(IDLE_TIMEOUT_SECONDS));
+    }
+
+    // 회원의 세션 목록 (최근 사용 순)
+    public List<SessionResponse> getSessions(Long memberId, String currentSessionId) {
+        long now = Instant.now().getEpochSecond();
+        List<SessionResponse> sessions = new ArrayList<>();
+        getSessionValues(memberId).forEach((sessionId, value) -> {
+            Session session = Session.parse(sessionId, value);
+            if (!session.isExpired(now)) {
+                sessions.add(new SessionResponse(sessionId,
+                        Instant.ofEpochSecond(session.createdAt()),
+                        Instant.ofEpochSecond(session.lastUsedAt()),
+                        sessionId.equals(currentSessionId)));
+            }
+        });
+        sessions.sort(Comparator.comparing(SessionResponse::getLastUsedAt).reversed());
+        return sessions;
+    }
+
+    // 로그아웃 :: 현재 세션 삭제, 재발급 공유 토큰 삭제, AccessToken 폐기를 하나의 파이프라인으로 전송 (왕복 1회)
+    // 삭제된 세션이 있었으면 true
+    public boolean logout(Long memberId, String sessionId, Claims accessTokenClaims) {
+        String key = sessionKey(memberId);
+        List<Object> results = redisService.executePipelined(operations -> {
+            operations.opsForHash().delete(key, sessionId != null ? sessionId : "");
+            operations.delete(TokenRefreshService.sharedAccessTokenKey(memberId, sessionId));
+            tokenRevocationService.revoke(operations, accessTokenClaims.getId(), accessTokenClaims.getExpiration());
+            publishNearCacheInvalidation(operations, List.of(key));
+        });
+        evictNearCache(List.of(key));
+        return results.get(0) instanceof Long deleted && deleted > 0; // HDEL 결과
+    }
+
+    // 세션 하나 종료 :: 종료된 세션이 있었으면 true
+    public boolean revokeSession(Long memberId, String sessionId) {
+        String key = sessionKey(memberId);
+        List<Object> results = redisService.executePipelined(operations -> {
+            operations.opsForHash().delete(key, sessionId);
+            operations.delete(TokenRefreshService.sharedAccessTokenKey(memberId, sessionId));
+            publishNearCacheInvalidation(operations, List.of(key));
+        });
+        evictNearCache(List.of(key));
+        return results.get(0) instanceof Long deleted && deleted > 0;
+    }
+
+    // 여러 회원의 모든 세션 종료 :: 세션 ID 조회(HKEYS)와 삭제를 각각 하나의 파이프라인으로 전송 (왕복 2회)
+    // 종료된 세션 수 반환
+    public long revokeAllSessions(Collection<Long> memberIds) {
+        List<Long> ids = List.copyOf(memberIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> sessionIds = redisService.executePipelined(operations ->
+                ids.forEach(memberId -> operations.opsForHash().keys(sessionKey(memberId))));
+
+        List<String> keys = new ArrayList<>();
+        List<String> sessionKeys = new ArrayList<>(ids.size());
+        long revoked = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            Long memberId = ids.get(i);
+            sessionKeys.add(sessionKey(memberId));
+            if (sessionIds.get(i) instanceof Collection<?> fields) {
+                revoked += fields.size();
+                fields.forEach(sessionId -> keys.add(TokenRefreshService.sharedAccessTokenKey(memberId, String.valueOf(sessionId))));
+            }
+        }
+        keys.addAll(sessionKeys);
+
+        redisService.executePipelined(operations -> {
+            for (int from = 0; from < keys.size(); from += DELETE_CHUNK_SIZE) {
+                operations.delete(keys.subList(from, Math.min(from + DELETE_CHUNK_SIZE, keys.size())));
+            }
+            publishNearCacheInvalidation(operations, sessionKeys);
+        });
+        evictNearCache(sessionKeys);
+        return revoked;
+    }
+
+    // 세션 해시 전체 조회 (near-cache 활성화 시 로컬 캐시 우선)
+    // 캐시가 없으면 replica 에서 읽음 :: 복제 지연 동안 방금 종료된 세션이 한 번 더 재발급될 수 있음 (폐기 목록 확인은 master)
+    // near-cache 는 무효화 직후 다시 읽은 값을 보관하므로 오래된 replica 값이 남지 않도록 master 에서 읽음
+    private Map<String, String> getSessionValues(Long memberId) {
+        if (refreshTokenNearCache != null) {
+            return refreshTokenNearCache.get(sessionKey(memberId));
+        }
+        return redisService.getHashFromReplica(sessionKey(memberId));
+    }
+
+    private void invalidateNearCache(List<String> keys) {
+        if (refreshTokenNearCache != null) {
+            refreshTokenNearCache.invalidate(keys);
+        }
+    }
+
+    private void publishNearCacheInvalidation(RedisOperations<String, Object> operations, List<String> keys) {
+        if (refreshTokenNearCache != null) {
+            operations.convertAndSend(RefreshTokenNearCache.INVALIDATION_CHANNEL, RefreshTokenNearCache.toMessage(keys));
+        }
+    }
+
+    private void evictNearCache(List<String> keys) {
+        if (refreshTokenNearCache != null) {
+            refreshTokenNearCache.evict(keys);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * SigningKeyRing 클래스
+ * AccessToken 서명 키와 kid 별 검증 키 관리
+ * - HS512 : 기존 공유 secret(jwt.secret.access)으로 서명, kid 없음, JWKS 는 비어 있음
+ * - ES256, EdDSA : 활성 kid 의 개인 키로 서명하고 헤더에 kid 기록, 공개 키는 /.well-known/jwks.json 으로 공개
+ * 검증 시 헤더의 kid 로 공개 키를 찾으므로, 다음 키를 미리 공개해 두면 서명 키를 바꿔도 기존 토큰이 계속 검증됨
+ * kid 가 없는 토큰은 HS512 를 사용 중이거나 전환 기간(jwt.signing.legacy-hmac-until) 안에서만 기존 secret 으로 검증
+ * (전환 기간이 지나면 공유 secret 을 가진 쪽이 만든 토큰은 더 이상 인정하지 않음)
+ * 키는 시작 시에만 읽으므로 키 교체는 노드를 순서대로 재시작(rolling restart)하여 반영
+ */
+@Slf4j
+@Component
+public class SigningKeyRing extends LocatorAdapter<Key> {
+
+    public enum Algorithm {
+        HS512, ES256, EdDSA
+    }
+
+    private static final String PUBLIC_KEY_SUFFIX = ".pub";
+    private static final String PRIVATE_KEY_SUFFIX = ".key";
+
+    private final Algorithm algorithm;
+    private final String accessSecretKey;
+    private final String keyDir;
+    private final String activeKid;
+    // ES256, EdDSA 사용 중 kid 없는 HS512 토큰을 받아들이는 마지막 시각 (null 이면 받지 않음)
+    private final Instant legacyHmacUntil;
+    private final ObjectMapper objectMapper;
+
+    // 기존 HS512 서명/검증 키
+    private SecretKey hmacKey;
+    // 서명에 사용하는 kid (HS512 이면 null)
+    private String signingKid;
+    // 토큰 빌더에 서명 키와 알고리즘을 적용하는 함수 :: 키 종류별 제네릭 타입을 생성 시점에 고정
+    private UnaryOperator<JwtBuilder> signer;
+    // kid -> 공개 키
+    private Map<String, PublicKey> verificationKeys = Map.of();
+    // 미리 직렬화한 JWKS 응답과 ETag
+    private JwkSet jwkSet;
+
+    public record JwkSet(byte[] json, String etag) {
+    }
+
+    public SigningKeyRing(@Value("${jwt.signing.algorithm:HS512}") String algorithm,
+                          @Value("${jwt.secret.access}") String accessSecretKey,
+                          @Value("${jwt.signing.key-dir:}") String keyDir,
+                          @Value("${jwt.signing.active-kid:}") String activeKid,
+                          @Value("${jwt.signing.legacy-hmac-until:}") String legacyHmacUntil,
+                          ObjectMapper objectMapper) {
+        this.algorithm = Algorithm.valueOf(algorithm);
+        this.accessSecretKey = accessSecretKey;
+        this.keyDir = keyDir;
+        this.activeKid = activeKid;
+        this.legacyHmacUntil = StringUtils.hasText(legacyHmacUntil) ? Instant.parse(legacyHmacUntil) : null;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() {
+        hmacKey = Keys.hmacShaKeyFor(accessSecretKey.getBytes(StandardCharsets.UTF_8));
+        switch (algorithm) {
+            case HS512 -> signer = builder -> builder.signWith(hmacKey, Jwts.SIG.HS512);
+            case ES256, EdDSA -> {
+                PrivateKey privateKey = StringUtils.hasText(keyDir) ? loadKeys() : generateKeys();
+                if (algorithm == Algorithm.ES256) {
+                    signer = builder -> builder.header().keyId(signingKid).and().signWith(privateKey, Jwts.SIG.ES256);
+                } else {
+                    signer = builder -> builder.header().keyId(signingKid).and().signWith(privateKey, Jwts.SIG.EdDSA);
+                }
+            }
+        }
+        jwkSet = buildJwkSet();
+        log.info("AccessToken 서명 알고리즘: {} (kid={}, 검증 키 {}개)", algorithm, signingKid, verificationKeys.size());
+        if (algorithm != Algorithm.HS512) {
+            log.info("kid 없는 HS512 AccessToken 허용: {}", legacyHmacUntil != null ? legacyHmacUntil + " 까지" : "허용하지 않음");
+        }
+    }
+
+    // 서명 키와 kid 를 토큰 빌더에 적용
+    public JwtBuilder sign(JwtBuilder builder) {
+        return signer.apply(builder);
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    // 공개 키 목록 (JWKS)
+    public JwkSet getJwkSet() {
+        return jwkSet;
+    }
+
+    // 헤더의 kid 로 검증 키 선택 :: 파서가 서명 검증 전에 호출
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (acceptsLegacyHmac()) {
+                return hmacKey; // kid 없는 기존 HS512 토큰
+            }
+            throw new InvalidKeyException("kid 가 없는 HS512 토큰은 허용하지 않습니다.");
+        }
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new InvalidKeyException("알 수 없는 kid 입니다: " + kid);
+        }
+        return key;
+    }
+
+    // HS512 를 사용 중이거나 전환 기간 안이면 true
+    private boolean acceptsLegacyHmac() {
+        return algorithm == Algorithm.HS512 || (legacyHmacUntil != null && Instant.now().isBefore(legacyHmacUntil));
+    }
+
+    // key-dir 의 <kid>.pub(X.509 PEM) 를 모두 검증 키로 등록하고, 활성 kid 의 <kid>.key(PKCS#8 PEM) 를 서명 키로 사용
+    private PrivateKey loadKeys() {
+        if (!StringUtils.hasText(activeKid)) {
+            throw new IllegalStateException("jwt.signing.active-kid 를 지정해야 합니다.");
+        }
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(Path.of(keyDir))) {
+            for (Path file : files.sorted().toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PUBLIC_KEY_SUFFIX)) {
+                    String kid = name.substring(0, name.length() - PUBLIC_KEY_SUFFIX.length());
+                    keys.put(kid, readPublicKey(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("서명 키 디렉터리를 읽을 수 없습니다: " + keyDir, e);
+        }
+
+        PublicKey activePublicKey = keys.get(activeKid);
+        if (activePublicKey == null) {
+            throw new IllegalStateException("활성 kid 의 공개 키가 없습니다: " + activeKid + PUBLIC_KEY_SUFFIX);
+        }
+        PrivateKey privateKey = readPrivateKey(Path.of(keyDir, activeKid + PRIVATE_KEY_SUFFIX), activePublicKey.getAlgorithm());
+        checkKeyType(privateKey);
+
+        signingKid = activeKid;
+        verificationKeys = Map.copyOf(keys);
+        return privateKey;
+    }
+
+    // 키 디렉터리가 없으면 시작할 때마다 새 키 생성 (노드마다 키가 달라지므로 개발용)
+    private PrivateKey generateKeys() {
+        KeyPair keyPair = algorithm == Algorithm.ES256 ? Jwts.SIG.ES256.keyPair().build() : Jwts.SIG.EdDSA.keyPair().build();
+        signingKid = StringUtils.hasText(activeKid) ? activeKid : thumbprint(keyPair.getPublic());
+        verificationKeys = Map.of(signingKid, keyPair.getPublic());
+        log.warn("jwt.signing.key-dir 가 없어 임시 {} 키를 생성했습니다. 재시작하거나 노드가 여러 대이면 토큰을 검증할 수 없습니다.", algorithm);
+        return keyPair.getPrivate();
+    }
+
+    // 설정한 알고리즘과 활성 키의 종류가 다르면 시작 실패
+    private void checkKeyType(PrivateKey privateKey) {
+        boolean ec = "EC".equals(privateKey.getAlgorithm());
+        if ((algorithm == Algorithm.ES256) != ec) {
+            throw new IllegalStateException("활성 키(" + privateKey.getAlgorithm() + ")가 " + algorithm + " 에 맞지 않습니다.");
+        }
+    }
+
+    private JwkSet buildJwkSet() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        verificationKeys.forEach((kid, publicKey) -> {
+            PublicJwk<?> jwk = Jwks.builder().key(publicKey).id(kid).publicKeyUse("sig")
+                    .algorithm("EC".equals(publicKey.getAlgorithm()) ? Algorithm.ES256.name() : Algorithm.EdDSA.name())
+                    .build();
+            keys.add(new LinkedHashMap<>(jwk));
+        });
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+            return new JwkSet(json, "\"" + sha256(json) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWKS 를 만들 수 없습니다.", e);
+        }
+    }
+
+    private static PublicKey readPublicKey(Path file) {
+        byte[] der = readPem(file);
+        for (String keyAlgorithm : List.of("EC", "EdDSA")) {
+            try {
+                return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(der));
+            } catch (GeneralSecurityException e) {
+                // 다음 키 종류로 시도
+            }
+        }
+        throw new IllegalStateException("EC 또는 EdDSA 공개 키가 아닙니다: " + file);
+    }
+
+    private static PrivateKey readPrivateKey(Path file, String keyAlgorithm) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("개인 키를 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    // PEM 의 BEGIN/END 줄을 제외한 본문을 Base64 디코딩
+    private static byte[] readPem(Path file) {
+        try {
+            String body = Files.readAllLines(file).stream()
+                    .filter(line -> !line.startsWith("-----"))
+                    .reduce("", String::concat);
+            return Base64.getMimeDecoder().decode(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("키 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    private static String thumbprint(PublicKey publicKey) {
+        return sha256(publicKey.getEncoded()).substring(0, 16);
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.util.AuthoritySets;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * TokenAuthentication 클래스
+ * AccessToken 으로 인증된 회원의 인증 정보
+ * principal 은 회원 ID(subject), credentials 는 AccessToken, details 는 검증된 Claims
+ * 권한은 auth 클레임의 비트마스크로 공유 목록(AuthoritySets)을 그대로 참조하여
+ * UserDetails 생성, 권한 정렬과 복사 없이 요청당 이 객체 하나만 생성
+ */
+public class TokenAuthentication extends AbstractAuthenticationToken {
+
+    private final String subject;
+    private final String token;
+    private final long authorities;
+
+    public TokenAuthentication(String subject, String token, long authorities, Claims claims) {
+        super(null); // 권한 목록을 복사하지 않도록 getAuthorities() 에서 공유 목록 반환
+        this.subject = subject;
+        this.token = token;
+        this.authorities = authorities;
+        setDetails(claims);
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return subject;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return token;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return AuthoritySets.of(authorities);
+    }
+
+    // 권한 비트마스크 (auth 클레임 값)
+    public long getAuthorityMask() {
+        return authorities;
+    }
+}
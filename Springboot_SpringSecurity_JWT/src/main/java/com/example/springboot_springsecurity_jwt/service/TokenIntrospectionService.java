@@ -0,0 +1,173 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.dto.IntrospectionRequest;
+import com.example.springboot_springsecurity_jwt.dto.IntrospectionResponse;
+import com.example.springboot_springsecurity_jwt.dto.TokenIntrospection;
+import com.example.springboot_springsecurity_jwt.util.AuthoritySets;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 토큰 조회(introspection) 서비스 클래스
+ * JWT 를 직접 검증할 수 없는 게이트웨이, 리소스 서버를 위해 여러 토큰의 상태를 한 번에 확인 (RFC 7662 형식)
+ * 서명과 만료 검증은 CPU 작업이므로 병렬로 처리하고, 세션과 폐기 목록 확인은 모든 토큰을 하나의 파이프라인으로 조회 (Redis 왕복 1회)
+ * AccessToken 은 폐기되지 않았고 발급한 세션이 살아있을 때, RefreshToken 은 세션에 저장된 jti 와 같을 때 active
+ */
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TokenIntrospectionService {
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RedisService redisService;
+
+    private static final String ACCESS_TOKEN = "access_token";
+    private static final String REFRESH_TOKEN = "refresh_token";
+
+    // 이 수 이상이면 서명 검증을 병렬로 실행 (적은 수는 작업 분배 비용이 더 큼)
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    // 호출하는 서버 인증용 secret (헤더 X-Introspection-Secret) :: 비어 있으면 조회 API 를 사용하지 않음
+    @Value("${introspection.client-secret:}")
+    private String clientSecret;
+
+    @Value("${introspection.max-batch-size:100}")
+    private int maxBatchSize;
+
+    // active 결과를 재사용해도 되는 최대 시간 :: 길수록 폐기가 늦게 반영됨
+    @Value("${introspection.active-cache-seconds:30}")
+    private long activeCacheSeconds;
+
+    // inactive 결과는 다시 active 가 되지 않으므로 길게 재사용
+    @Value("${introspection.inactive-cache-seconds:300}")
+    private long inactiveCacheSeconds;
+
+    // 서명 검증을 통과한 토큰 :: 상태 확인 전
+    private record VerifiedToken(String tokenType, Claims claims) {
+        Long memberId() {
+            return claims.get("id", Long.class);
+        }
+
+        String sessionId() {
+            return claims.get(TokenService.SESSION_ID_CLAIM, String.class);
+        }
+    }
+
+    public ResponseEntity<IntrospectionResponse> introspect(String secret, IntrospectionRequest request) {
+        if (!isAuthorizedClient(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        List<String> tokens = request.getTokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        boolean refreshFirst = REFRESH_TOKEN.equals(request.getTokenTypeHint());
+        Stream<String> stream = tokens.size() >= PARALLEL_THRESHOLD ? tokens.parallelStream() : tokens.stream();
+        List<VerifiedToken> verified = stream.map(token -> verify(token, refreshFirst)).toList(); // 요청 순서 유지
+
+        // 응답 전체는 토큰마다 다르므로 저장하지 않고, 토큰별 재사용 시간은 cache_max_age 로 전달
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(new IntrospectionResponse(checkState(verified)));
+    }
+
+    // 서명과 만료 검증 :: 유효하지 않으면 null
+    private VerifiedToken verify(String token, boolean refreshFirst) {
+        if (refreshFirst) {
+            VerifiedToken refreshToken = verifyRefreshToken(token);
+            return refreshToken != null ? refreshToken : verifyAccessToken(token);
+        }
+        VerifiedToken accessToken = verifyAccessToken(token);
+        return accessToken != null ? accessToken : verifyRefreshToken(token);
+    }
+
+    private VerifiedToken verifyAccessToken(String token) {
+        TokenVerification verification = tokenService.verifyAccessToken(token);
+        return verification.isValid() ? new VerifiedToken(ACCESS_TOKEN, verification.getClaims()) : null;
+    }
+
+    private VerifiedToken verifyRefreshToken(String token) {
+        TokenVerification verification = tokenService.verifyRefreshToken(token);
+        return verification.isValid() ? new VerifiedToken(REFRESH_TOKEN, verification.getClaims()) : null;
+    }
+
+    // 세션(HGET)과 폐기 목록(EXISTS)을 하나의 파이프라인으로 조회
+    // 폐기 목록은 Bloom filter 에 걸린 AccessToken 만 조회하므로 대부분의 토큰은 세션 조회 한 건만 전송
+    private List<TokenIntrospection> checkState(List<VerifiedToken> verified) {
+        List<Object> replies = verified.stream().anyMatch(token -> token != null && token.memberId() != null)
+                ? redisService.executePipelined(operations -> verified.forEach(token -> {
+                    if (token == null || token.memberId() == null) {
+                        return;
+                    }
+                    if (token.sessionId() != null) {
+                        operations.opsForHash().get(SessionService.sessionKey(token.memberId()), token.sessionId());
+                    }
+                    if (needsRevocationCheck(token)) {
+                        operations.hasKey(TokenRevocationService.revokedKey(token.claims().getId()));
+                    }
+                }))
+                : List.of();
+
+        long now = Instant.now().getEpochSecond();
+        List<TokenIntrospection> results = new ArrayList<>(verified.size());
+        int reply = 0;
+        for (VerifiedToken token : verified) {
+            if (token == null || token.memberId() == null) {
+                results.add(TokenIntrospection.inactive(inactiveCacheSeconds));
+                continue;
+            }
+            boolean active = true;
+            if (token.sessionId() != null) {
+                String refreshTokenId = REFRESH_TOKEN.equals(token.tokenType()) ? token.claims().getId() : null;
+                active = SessionService.isLiveSession((String) replies.get(reply++), refreshTokenId, now);
+            } else if (REFRESH_TOKEN.equals(token.tokenType())) {
+                active = false; // 세션 정보가 없는 이전 형식의 RefreshToken 은 재발급에 사용할 수 없음
+            }
+            if (needsRevocationCheck(token) && Boolean.TRUE.equals(replies.get(reply++))) {
+                active = false;
+            }
+            if (tokenRevocationService.isIssuedBeforeAuthorityChange(token.claims())) {
+                active = false; // 권한이 바뀌기 전에 발급된 토큰은 이전 권한(scope)을 담고 있으므로 사용할 수 없음
+            }
+            results.add(active ? activeResult(token, now) : TokenIntrospection.inactive(inactiveCacheSeconds));
+        }
+        return results;
+    }
+
+    private boolean needsRevocationCheck(VerifiedToken token) {
+        return ACCESS_TOKEN.equals(token.tokenType()) && tokenRevocationService.mightBeRevoked(token.claims().getId());
+    }
+
+    private TokenIntrospection activeResult(VerifiedToken token, long now) {
+        Claims claims = token.claims();
+        long exp = claims.getExpiration().toInstant().getEpochSecond();
+        // AccessToken 의 권한을 scope 로 전달 :: JWT 를 직접 검증하지 못하는 서버도 권한을 확인할 수 있도록 함
+        String scope = ACCESS_TOKEN.equals(token.tokenType()) ? AuthoritySets.scopeOf(TokenService.getAuthorities(claims)) : null;
+        return new TokenIntrospection(true, token.tokenType(), claims.getIssuer(), claims.getSubject(),
+                exp, claims.getIssuedAt().toInstant().getEpochSecond(), claims.getId(), token.sessionId(), scope,
+                Math.max(0, Math.min(activeCacheSeconds, exp - now))); // 토큰 만료 시각을 넘겨 재사용하지 않도록 함
+    }
+
+    // 호출한 서버의 secret 확인 (길이 외의 정보가 응답 시간으로 드러나지 않도록 상수 시간 비교)
+    private boolean isAuthorizedClient(String secret) {
+        if (!StringUtils.hasText(clientSecret) || secret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(clientSecret.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.exception.RedisUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenRefreshService 클래스
+ * 만료된 AccessToken 재발급을 세션(memberId + 세션 ID) 단위로 합쳐서 처리 (single-flight)
+ * 같은 노드의 동시 요청은 진행 중인 재발급 결과를 기다리고,
+ * 다른 노드의 요청은 Redis 락과 짧게 공유되는 새 AccessToken 으로 같은 결과를 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRefreshService {
+
+    private final TokenService tokenService;
+    private final SessionService sessionService;
+    private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // 노드 내에서 진행 중인 재발급 (세션 key -> 결과)
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    // 재발급 락 key 접두사 :: 한 노드만 재발급하도록 보장
+    private static final String LOCK_PREFIX = "RT_LOCK:";
+    // 방금 재발급한 AccessToken 을 공유하는 key 접두사
+    private static final String NEW_ACCESS_TOKEN_PREFIX = "NAT:";
+
+    // 락 유지 시간 :: 재발급 중 노드가 죽어도 락이 남지 않도록 짧게 설정
+    private static final long LOCK_TTL_MILLIS = 3000;
+    // 재발급한 AccessToken 공유 시간 :: 같은 만료 시점에 몰린 요청이 모두 같은 토큰을 받을 정도의 시간
+    private static final long SHARE_TTL_MILLIS = 5000;
+    // 다른 노드가 재발급 중일 때 결과를 기다리는 횟수와 간격
+    private static final int WAIT_ATTEMPTS = 10;
+    private static final long WAIT_INTERVAL_MILLIS = 20;
+
+    // 재발급 AccessToken 공유 key :: 세션 해시와 같은 hash tag 사용
+    public static String sharedAccessTokenKey(Long memberId, String sessionId) {
+        return NEW_ACCESS_TOKEN_PREFIX + "{" + memberId + "}:" + sessionId;
+    }
+
+    // 만료된 AccessToken 재발급 :: 세션이 없거나 만료되었거나, 권한 변경 전에 발급된 토큰이면 null
+    // 권한(authorities)은 만료된 AccessToken 의 auth 클레임을 이어받고, 권한이 바뀐 뒤(issuedAt 이후 변경)에는 재발급하지 않음
+    // Redis 를 사용할 수 없으면 세션을 확인할 수 없으므로 RedisUnavailableException (재발급하지 않고 바로 실패)
+    public String refreshAccessToken(Long memberId, String sessionId, long authorities, long issuedAt) {
+        if (sessionId == null) {
+            return null; // 세션 정보가 없는 이전 형식의 토큰은 다시 로그인해야 함
+        }
+        String flightKey = memberId + ":" + sessionId;
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(flightKey, mine);
+        if (running != null) {
+            return await(running); // 같은 노드에서 이미 재발급 중이면 그 결과를 사용
+        }
+
+        try {
+            String newAccessToken = refreshAcrossNodes(memberId, sessionId, authorities, issuedAt);
+            mine.complete(newAccessToken);
+            return newAccessToken;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private String refreshAcrossNodes(Long memberId, String sessionId, long authorities, long issuedAt) {
+        String sharedKey = sharedAccessTokenKey(memberId, sessionId);
+        // 다른 노드(또는 직전 요청)가 방금 재발급한 토큰이 있으면 그대로 사용
+        String shared = redisService.getValue(sharedKey);
+        if (shared != null) {
+            return shared;
+        }
+
+        String lockKey = LOCK_PREFIX + "{" + memberId + "}:" + sessionId;
+        String lockOwner = UUID.randomUUID().toString();
+        if (redisService.saveValueIfAbsent(lockKey, lockOwner, LOCK_TTL_MILLIS, TimeUnit.MILLISECONDS)) {
+            try {
+                String newAccessToken = mint(memberId, sessionId, authorities, issuedAt);
+                if (newAccessToken != null) {
+                    redisService.saveValue(sharedKey, newAccessToken, SHARE_TTL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                return newAccessToken;
+            } finally {
+                redisService.deleteValueIfEquals(lockKey, lockOwner); // 내가 잡은 락만 해제
+            }
+        }
+
+        // 다른 노드가 재발급 중이면 결과가 공유될 때까지 잠시 대기
+        for (int i = 0; i < WAIT_ATTEMPTS; i++) {
+            if (!sleep(WAIT_INTERVAL_MILLIS)) {
+                break;
+            }
+            shared = redisService.getValue(sharedKey);
+            if (shared != null) {
+                return shared;
+            }
+        }
+
+        // 락을 가진 노드가 응답하지 않으면 직접 재발급
+        log.debug("재발급 락 대기 시간 초과, 직접 재발급합니다. memberId={}, sessionId={}", memberId, sessionId);
+        return mint(memberId, sessionId, authorities, issuedAt);
+    }
+
+    // 권한 변경 전에 발급된 토큰이 아니고 세션이 살아있는지 확인한 뒤 새 AccessToken 발급
+    // 권한 변경 시각은 메모리 복제가 아닌 Redis 에서 확인 (다른 노드의 변경 알림이 도착하기 전이어도 이전 권한으로 재발급하지 않음)
+    private String mint(Long memberId, String sessionId, long authorities, long issuedAt) {
+        if (tokenRevocationService.isIssuedBeforeAuthorityChange(memberId, issuedAt)) {
+            return null;
+        }
+        if (!sessionService.refreshSession(memberId, sessionId)) {
+            return null;
+        }
+        return tokenService.makeAccessToken(memberId, sessionId, authorities);
+    }
+
+    private String await(CompletableFuture<String> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RedisUnavailableException unavailable) {
+                throw unavailable; // 함께 기다린 요청도 같은 이유로 실패
+            }
+            return null; // 재발급을 수행한 요청이 실패하면 함께 기다린 요청도 재발급 없이 진행
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.exception.RedisUnavailableException;
+import com.example.springboot_springsecurity_jwt.util.BloomFilter;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenRevocationService 클래스
+ * 로그아웃 등으로 폐기된 AccessToken 을 jti 기준으로 관리
+ * 폐기 목록은 Redis(BL:<jti>)에 토큰의 남은 유효 시간만큼 저장하고,
+ * 각 노드는 이를 Bloom filter 로 복제하여 Bloom filter 에 걸린 토큰만 Redis 로 확인
+ * 회원 권한이 바뀌면 변경 시각(AUTH_NBF:{memberId})을 저장하고, 그 이전에 발급된 토큰은 인증과 재발급에 사용하지 않음
+ * 변경 시각도 각 노드가 메모리에 복제하므로 요청마다 Redis 를 조회하지 않음 (재발급 시에만 Redis 로 다시 확인)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    // 폐기된 토큰 key 접두사
+    private static final String REVOKED_PREFIX = "BL:";
+    // 폐기 알림 채널 :: 메시지는 jti
+    private static final String REVOCATION_CHANNEL = "revocation:access";
+    // 권한 변경 시각 key 접두사 :: 값은 이 시각(epoch 초) 이전에 발급된 토큰을 거부하는 기준
+    private static final String AUTHORITY_CHANGE_PREFIX = "AUTH_NBF:";
+    // 권한 변경 알림 채널 :: 메시지는 "memberId:기준 시각"
+    private static final String AUTHORITY_CHANGE_CHANNEL = "revocation:authorities";
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 현재 사용 중인 Bloom filter
+    private volatile BloomFilter bloomFilter;
+    // 재구성 중인 Bloom filter :: 재구성 도중 도착한 폐기 알림을 놓치지 않도록 함께 추가
+    private volatile BloomFilter rebuildingFilter;
+    // 회원 ID -> 권한 변경 기준 시각 (epoch 초) :: 권한이 바뀐 회원만 담기므로 크기가 작음
+    private final ConcurrentMap<Long, Long> authorityNotBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(RedisService redisService,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${jwt.revocation.expected-insertions:1000000}") long expectedInsertions,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // 폐기 알림 채널 구독 후 Redis 의 폐기 목록으로 Bloom filter 구성
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, List.of(new ChannelTopic(REVOCATION_CHANNEL), new ChannelTopic(AUTHORITY_CHANGE_CHANNEL)));
+        rebuild();
+    }
+
+    // AccessToken 폐기 :: 토큰이 만료되면 폐기 기록도 함께 사라지도록 남은 유효 시간만큼 저장
+    public void revoke(String jti, Date expiration) {
+        redisService.executePipelined(operations -> revoke(operations, jti, expiration));
+    }
+
+    // 다른 명령과 같은 파이프라인에서 폐기 기록 저장과 알림 발행을 함께 전송할 때 사용
+    public void revoke(RedisOperations<String, Object> operations, String jti, Date expiration) {
+        if (jti == null || expiration == null) {
+            return;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        operations.opsForValue().set(revokedKey(jti), "1", remainingMillis, TimeUnit.MILLISECONDS);
+        operations.convertAndSend(REVOCATION_CHANNEL, jti);
+        add(jti);
+    }
+
+    // 폐기 여부 확인 :: 대부분의 토큰은 Bloom filter 에서 바로 걸러지고, 걸린 경우에만 Redis 조회
+    // Redis 를 사용할 수 없으면 Bloom filter 에 걸린 토큰은 폐기된 것으로 처리 (나머지 토큰은 Redis 없이 계속 인증)
+    public boolean isRevoked(String jti) {
+        if (!mightBeRevoked(jti)) {
+            return false;
+        }
+        try {
+            return redisService.hasKey(revokedKey(jti));
+        } catch (RedisUnavailableException e) {
+            log.debug("Redis 를 사용할 수 없어 Bloom filter 결과로 폐기 여부를 판단합니다. jti={}", jti);
+            return true;
+        }
+    }
+
+    // Bloom filter 만 확인 :: false 면 폐기되지 않은 토큰이 확실하고, true 면 Redis 확인 필요
+    public boolean mightBeRevoked(String jti) {
+        return jti != null && bloomFilter.mightContain(jti);
+    }
+
+    // 폐기 기록 key
+    public static String revokedKey(String jti) {
+        return REVOKED_PREFIX + jti;
+    }
+
+    // 권한 변경 시각 key :: 세션 해시와 같은 hash tag 사용
+    public static String authorityChangeKey(Long memberId) {
+        return AUTHORITY_CHANGE_PREFIX + "{" + memberId + "}";
+    }
+
+    // 회원 권한 변경 :: 지금까지 발급된 AccessToken 을 모두 거부하도록 기준 시각을 저장하고 모든 노드에 알림
+    // iat 는 초 단위이므로 같은 초에 발급된 토큰도 거부하도록 다음 초를 기준으로 사용 (변경 직후 1초 안에 발급된 토큰도 거부됨)
+    // 기준 시각은 RefreshToken 이 살아있을 수 있는 기간 동안 유지
+    public void revokeAuthorities(Long memberId) {
+        long notBefore = Instant.now().getEpochSecond() + 1;
+        redisService.executePipelined(operations -> {
+            operations.opsForValue().set(authorityChangeKey(memberId), String.valueOf(notBefore),
+                    TokenService.REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+            operations.convertAndSend(AUTHORITY_CHANGE_CHANNEL, memberId + ":" + notBefore);
+        });
+        putAuthorityNotBefore(memberId, notBefore);
+    }
+
+    // 권한 변경 전에 발급된 토큰인지 확인 (메모리만 조회) :: 필터와 토큰 조회에서 요청마다 사용
+    public boolean isIssuedBeforeAuthorityChange(Claims claims) {
+        Long memberId = claims.get("id", Long.class);
+        if (memberId == null || authorityNotBefore.isEmpty()) {
+            return false;
+        }
+        Long notBefore = authorityNotBefore.get(memberId);
+        return notBefore != null && issuedAtSeconds(claims) < notBefore;
+    }
+
+    // 권한 변경 전에 발급된 토큰인지 Redis 로 확인 :: 재발급처럼 메모리 복제의 지연을 허용하지 않는 경우에 사용
+    public boolean isIssuedBeforeAuthorityChange(Long memberId, long issuedAtSeconds) {
+        String notBefore = redisService.getValue(authorityChangeKey(memberId));
+        return notBefore != null && issuedAtSeconds < Long.parseLong(notBefore);
+    }
+
+    // 토큰의 발급 시각 (epoch 초) :: iat 가 없으면 0 (권한이 바뀐 회원이면 거부됨)
+    public static long issuedAtSeconds(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.toInstant().getEpochSecond() : 0;
+    }
+
+    // 다른 노드의 폐기, 권한 변경 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (AUTHORITY_CHANGE_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            int separator = body.indexOf(':');
+            putAuthorityNotBefore(Long.valueOf(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+            return;
+        }
+        add(body);
+    }
+
+    // 만료된 폐기 기록은 Bloom filter 에서 지울 수 없으므로 주기적으로 Redis 에 남은 목록으로 다시 구성
+    // 기본 주기는 AccessToken 유효 시간(10분)
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-millis:600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-millis:600000}")
+    public void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = rebuilt;
+        try {
+            long count = redisService.scanKeys(REVOKED_PREFIX + "*",
+                    key -> rebuilt.put(key.substring(REVOKED_PREFIX.length())));
+            bloomFilter = rebuilt;
+            log.debug("폐기 토큰 Bloom filter 재구성 완료: {}개", count);
+        } catch (RuntimeException e) {
+            log.warn("폐기 토큰 Bloom filter 재구성 실패, 기존 filter 를 계속 사용합니다.", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+        reloadAuthorityChanges();
+    }
+
+    // 알림을 놓친 경우를 위해 Redis 에 남은 권한 변경 시각을 다시 읽고, Redis 의 만료 시간이 지난 항목은 메모리에서도 제거
+    private void reloadAuthorityChanges() {
+        long expiredBefore = Instant.now().getEpochSecond() - TimeUnit.MILLISECONDS.toSeconds(TokenService.REFRESH_TOKEN_EXPIRE_TIME);
+        authorityNotBefore.values().removeIf(notBefore -> notBefore < expiredBefore);
+        try {
+            List<String> keys = new ArrayList<>();
+            redisService.scanKeys(AUTHORITY_CHANGE_PREFIX + "*", keys::add);
+            List<String> values = redisService.getValues(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                if (values.get(i) != null) {
+                    Long memberId = Long.valueOf(key.substring(AUTHORITY_CHANGE_PREFIX.length() + 1, key.length() - 1)); // {memberId}
+                    putAuthorityNotBefore(memberId, Long.parseLong(values.get(i)));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("권한 변경 시각 재구성 실패, 기존 목록을 계속 사용합니다: {}", e.toString());
+        }
+    }
+
+    private void putAuthorityNotBefore(Long memberId, long notBefore) {
+        authorityNotBefore.merge(memberId, notBefore, Math::max);
+    }
+
+    private void add(String jti) {
+        bloomFilter.put(jti);
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(jti);
+        }
+    }
+}
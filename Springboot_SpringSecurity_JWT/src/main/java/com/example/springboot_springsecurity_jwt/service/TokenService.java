@@ -1,136 +1,214 @@
 package com.example.springboot_springsecurity_jwt.service;
 
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import com.example.springboot_springsecurity_jwt.util.TokenIds;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import java.security.Key;
-import java.util.Collections;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.Set;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 
 /**
  * TokenService 클래스
  * AccessToken 및 RefreshToken 생성
  * JWT 토큰 생성 및 유효성 검증 처리
- * Redis를 사용한 RefreshToken 저장 및 조회
+ * AccessToken 서명 키는 SigningKeyRing(HS512 또는 ES256/EdDSA + kid)에서, RefreshToken 은 이 서비스만 검증하므로 HS512 secret 사용
+ * RefreshToken 의 저장과 조회는 SessionService 에서 처리
+ * 토큰 생성/검증 시간은 auth.token.mint, auth.token.verify 로 기록
+ * AccessToken 의 auth 클레임에 회원 권한 비트마스크를 담아 요청마다 DB 조회 없이 권한 확인
  */
 @Component
 @RequiredArgsConstructor
 public class TokenService {
 
+    private final MeterRegistry meterRegistry;
+    private final SigningKeyRing signingKeyRing;
+
     // application.yml 에서 jwt 설정 값 주입
     @Value("${jwt.issuer}")
     private String issuer;
 
-    @Value("${jwt.secret.access}")
-    private String accessSecretKey;
-
     @Value("${jwt.secret.refresh}")
     private String refreshSecretKey;
 
-    private final RedisService redisService;
+    // AccessToken 만료 시간 (기본 10분) :: 부하 테스트에서는 재발급 경로를 측정하기 위해 짧게 설정
+    @Value("${jwt.access-token-expire-millis:600000}")
+    private long accessTokenExpireTime;
 
-    // AccessToken 만료 시간 (10분)
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 10;
+    // 서명 키와 파서는 요청마다 만들지 않고 시작 시 한 번만 생성해 재사용 (JwtParser 는 thread-safe)
+    private SecretKey refreshKey;
+    private UnaryOperator<JwtBuilder> refreshTokenSigner;
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+
+    // 요청마다 registry 를 조회하지 않도록 시작 시 만들어 둔 Timer (태그는 토큰 종류와 검증 결과뿐)
+    private Timer accessTokenMintTimer;
+    private Timer refreshTokenMintTimer;
+    private final Map<TokenVerification.Status, Timer> accessTokenVerifyTimers = new EnumMap<>(TokenVerification.Status.class);
+    private final Map<TokenVerification.Status, Timer> refreshTokenVerifyTimers = new EnumMap<>(TokenVerification.Status.class);
 
     // RefreshToken 만료 시간 (30일)
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 24 * 30;
+    public static final long REFRESH_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 24 * 30;
+
+    // 토큰을 발급한 세션 ID 클레임
+    public static final String SESSION_ID_CLAIM = "sid";
 
+    // 권한 비트마스크 클레임 (Authority)
+    public static final String AUTHORITIES_CLAIM = "auth";
+
+
+    // 주입된 secret 으로 서명 키와 파서 생성
+    @PostConstruct
+    void init() {
+        refreshKey = Keys.hmacShaKeyFor(refreshSecretKey.getBytes(StandardCharsets.UTF_8));
+        refreshTokenSigner = builder -> builder.signWith(refreshKey, Jwts.SIG.HS512);
+        accessTokenParser = Jwts.parser().keyLocator(signingKeyRing).build(); // 헤더의 kid 로 검증 키 선택
+        refreshTokenParser = Jwts.parser().verifyWith(refreshKey).build();
+
+        accessTokenMintTimer = Timer.builder("auth.token.mint").tag("type", "access").register(meterRegistry);
+        refreshTokenMintTimer = Timer.builder("auth.token.mint").tag("type", "refresh").register(meterRegistry);
+        for (TokenVerification.Status status : TokenVerification.Status.values()) {
+            String result = status.name().toLowerCase();
+            accessTokenVerifyTimers.put(status, Timer.builder("auth.token.verify").tag("type", "access").tag("result", result).register(meterRegistry));
+            refreshTokenVerifyTimers.put(status, Timer.builder("auth.token.verify").tag("type", "refresh").tag("result", result).register(meterRegistry));
+        }
+    }
 
-    // 공통 JWT 빌더 메서드
-    private String createToken(Long memberId, String secretKey, long expireTime) {
+    // 공통 JWT 빌더 메서드 :: signer 가 서명 키와 시그니처 알고리즘(alg), kid 헤더를 적용
+    // authorities 가 null 이면 auth 클레임을 넣지 않음 (RefreshToken)
+    private String createToken(Long memberId, String sessionId, Long authorities, String tokenId, UnaryOperator<JwtBuilder> signer, long expireTime) {
         Date now = new Date();
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .header()
                 .add("typ", "JWT")  // 토큰 타입
-                .add("alg", "HS512") // 시그니처 알고리즘
                 .and()
                 .issuer(issuer)
                 .subject(String.valueOf(memberId)) // 회원 ID
                 .issuedAt(now) // 발행일
                 .expiration(new Date(now.getTime() + expireTime)) // 만료일
                 .claim("id", memberId) // 회원 ID
-                .signWith(key)
-                .compact();
+                .claim(SESSION_ID_CLAIM, sessionId) // 세션 ID
+                .claim(AUTHORITIES_CLAIM, authorities) // 권한 비트마스크
+                .id(tokenId); // 토큰 고유 ID (jti) :: 폐기 목록의 key 로 사용
+        return signer.apply(builder).compact();
     }
 
     // AccessToken 생성 메서드
-    public String makeAccessToken(Long memberId) {
-        return createToken(memberId, accessSecretKey, ACCESS_TOKEN_EXPIRE_TIME);
+    public String makeAccessToken(Long memberId, String sessionId, long authorities) {
+        long start = System.nanoTime();
+        String accessToken = createToken(memberId, sessionId, authorities, TokenIds.newTokenId(), signingKeyRing::sign, accessTokenExpireTime);
+        accessTokenMintTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return accessToken;
     }
 
-    // RefreshToken 생성 메서드
-    public String makeRefreshToken(Long memberId) {
-        String refreshToken = createToken(memberId, refreshSecretKey, REFRESH_TOKEN_EXPIRE_TIME);
-        // redis 에 저장
-        redisService.saveValue("RT:" + memberId, refreshToken, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+    // RefreshToken 생성 메서드 (저장 없이 토큰만 생성) :: tokenId 는 세션에 함께 저장되는 jti
+    public String createRefreshToken(Long memberId, String sessionId, String tokenId) {
+        long start = System.nanoTime();
+        String refreshToken = createToken(memberId, sessionId, null, tokenId, refreshTokenSigner, REFRESH_TOKEN_EXPIRE_TIME);
+        refreshTokenMintTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return refreshToken;
     }
 
-    // AccessToken 유효성 검증 메서드
-    public boolean validateAccessToken(String token) {
+    // AccessToken 을 한 번만 파싱하여 검증 결과와 Claims 를 함께 반환
+    // 토큰이 없는 요청은 파싱 없이 바로 MISSING 을 반환
+    public TokenVerification verifyAccessToken(String token) {
+        return verify(accessTokenParser, token, accessTokenVerifyTimers);
+    }
+
+    // RefreshToken 을 한 번만 파싱하여 검증 결과와 Claims 를 함께 반환
+    public TokenVerification verifyRefreshToken(String refreshToken) {
+        return verify(refreshTokenParser, refreshToken, refreshTokenVerifyTimers);
+    }
+
+    private TokenVerification verify(JwtParser parser, String token, Map<TokenVerification.Status, Timer> timers) {
+        long start = System.nanoTime();
+        TokenVerification verification = parse(parser, token);
+        timers.get(verification.getStatus()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verification;
+    }
+
+    private TokenVerification parse(JwtParser parser, String token) {
+        if (!StringUtils.hasText(token)) {
+            return TokenVerification.missing();
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(accessSecretKey.getBytes()))
-                    .build()
-                    .parse(token); // 토큰 파싱
-            return true; // 유효한 토큰
-        } catch (Exception e) {
-            return false; // 유효하지 않은 토큰
+            return TokenVerification.valid(parser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            return TokenVerification.expired(e.getClaims()); // 만료된 토큰도 서명은 검증된 상태이므로 Claims 사용 가능
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenVerification.invalid();
         }
     }
 
+    // AccessToken 유효성 검증 메서드
+    public boolean validateAccessToken(String token) {
+        return verifyAccessToken(token).isValid();
+    }
+
     // RefreshToken 유효성 검증 메서드
     public boolean validateRefreshToken(String refreshToken) {
-        try {
-            Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(refreshSecretKey.getBytes()))
-                    .build()
-                    .parse(refreshToken);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verifyRefreshToken(refreshToken).isValid();
     }
 
     // 토큰에서 Claims 객체 추출
     public Claims getClaims(String token, boolean isAccessToken) {
-        String secretKey = isAccessToken ? accessSecretKey : refreshSecretKey;
-        return Jwts.parser()
-                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build()
-                .parseSignedClaims(token)
-                .getBody();
+        JwtParser parser = isAccessToken ? accessTokenParser : refreshTokenParser;
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     // 토큰 기반으로 인증 정보 생성
     // AccessToken을 사용하여 인증 객체를 만들고, 이를 Spring Security의 인증 시스템에서 사용할 수 있도록 반환
     public Authentication getAuthentication(String token) {
         Claims claims = getClaims(token, true); // AccessToken이므로 true
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")); // 역할 부여
+        return getAuthentication(claims, token);
+    }
 
-        // UsernamePasswordAuthenticationToken은 Spring Security의 인증 객체
-        return new UsernamePasswordAuthenticationToken(
-                new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities), // 사용자 정보와 역할 설정
-                token,  // JWT 토큰 자체를 인증 정보로 포함
-                authorities  // 사용자 권한 정보
-        );
+    // 이미 검증된 Claims 로 인증 정보 생성 (토큰을 다시 파싱하지 않음)
+    // 검증된 Claims 를 details 로 보관 :: 로그아웃 등에서 토큰을 다시 파싱하지 않기 위해 사용
+    public Authentication getAuthentication(Claims claims, String token) {
+        return new TokenAuthentication(claims.getSubject(), token, getAuthorities(claims), claims);
     }
 
-    // Redis에서 RefreshToken 조회
-    public String getRefreshTokenFromRedis(Long memberId) {
-        return redisService.getValue("RT:" + memberId);
+    // 방금 발급한 토큰처럼 memberId 와 권한을 이미 알고 있는 경우 파싱 없이 인증 정보 생성
+    public Authentication getAuthentication(Long memberId, long authorities, String token) {
+        return new TokenAuthentication(String.valueOf(memberId), token, authorities, null);
     }
 
-}
+    // 토큰의 권한 비트마스크 :: auth 클레임이 없는 이전 형식의 토큰은 일반 회원 권한
+    public static long getAuthorities(Claims claims) {
+        Long authorities = claims.get(AUTHORITIES_CLAIM, Long.class);
+        return authorities != null ? authorities : Authority.USER;
+    }
+
+    // 인증 정보에 담긴 AccessToken 의 Claims 반환 :: 보관된 Claims 가 없으면 토큰을 검증하여 반환, 유효하지 않으면 null
+    public Claims getClaims(Authentication authentication) {
+        if (authentication.getDetails() instanceof Claims claims) {
+            return claims;
+        }
+        if (authentication.getCredentials() instanceof String token) {
+            TokenVerification verification = verifyAccessToken(token);
+            return verification.isValid() ? verification.getClaims() : null;
+        }
+        return null;
+    }
 
+}
@@ -0,0 +1,70 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TokenVerification 클래스
+ * 토큰을 한 번만 파싱한 결과를 담는 객체
+ * 예외를 던지지 않고 검증 결과(Status)와 파싱된 Claims 를 함께 반환
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+    public enum Status {
+        VALID,    // 서명과 만료 시간이 모두 유효한 토큰
+        EXPIRED,  // 서명은 유효하지만 만료된 토큰 (Claims 사용 가능)
+        INVALID,  // 서명 불일치, 형식 오류 등으로 신뢰할 수 없는 토큰
+        MISSING   // 토큰이 전달되지 않음
+    }
+
+    // 토큰이 없거나 잘못된 경우는 Claims 가 없으므로 공유 인스턴스 사용
+    private static final TokenVerification MISSING = new TokenVerification(Status.MISSING, null);
+    private static final TokenVerification INVALID = new TokenVerification(Status.INVALID, null);
+
+    private final Status status;
+    private final Claims claims;
+
+    public static TokenVerification valid(Claims claims) {
+        return new TokenVerification(Status.VALID, claims);
+    }
+
+    public static TokenVerification expired(Claims claims) {
+        return new TokenVerification(Status.EXPIRED, claims);
+    }
+
+    public static TokenVerification invalid() {
+        return INVALID;
+    }
+
+    public static TokenVerification missing() {
+        return MISSING;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    // 토큰의 id 클레임(memberId) 반환 :: VALID, EXPIRED 인 경우에만 값이 존재
+    public Long getMemberId() {
+        return claims != null ? claims.get("id", Long.class) : null;
+    }
+
+    // 토큰의 sid 클레임(세션 ID) 반환 :: 세션 정보가 없는 이전 형식의 토큰이면 null
+    public String getSessionId() {
+        return claims != null ? claims.get(TokenService.SESSION_ID_CLAIM, String.class) : null;
+    }
+
+    // 토큰의 auth 클레임(권한 비트마스크) 반환 :: VALID, EXPIRED 인 경우에만 의미가 있음
+    public long getAuthorities() {
+        return claims != null ? TokenService.getAuthorities(claims) : 0;
+    }
+
+    // 토큰의 iat 클레임(발급 시각, epoch 초) 반환 :: 권한 변경 전에 발급된 토큰인지 확인할 때 사용
+    public long getIssuedAt() {
+        return claims != null ? TokenRevocationService.issuedAtSeconds(claims) : 0;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.springboot_springsecurity_jwt.util;
+
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 권한 비트마스크 -> GrantedAuthority 목록 변환 유틸
+ * 가능한 모든 조합(2^권한 수)을 시작 시 한 번 만들어 두고 같은 인스턴스를 공유
+ * 요청마다 SimpleGrantedAuthority 와 컬렉션을 새로 만들지 않고 배열 조회 한 번으로 변환
+ */
+public final class AuthoritySets {
+
+    private static final Authority[] AUTHORITIES = Authority.values();
+    // 이 노드가 모르는 비트(다른 버전의 노드가 추가한 권한)는 무시
+    private static final long KNOWN_MASK = (1L << AUTHORITIES.length) - 1;
+    private static final List<GrantedAuthority>[] SETS = createSets();
+    // 비트마스크 -> 권한 이름을 공백으로 구분한 문자열 (토큰 조회 응답의 scope)
+    private static final String[] SCOPES = createScopes();
+
+    private AuthoritySets() {
+    }
+
+    // 비트마스크에 해당하는 공유(불변) 권한 목록
+    public static List<GrantedAuthority> of(long authorities) {
+        return SETS[(int) (authorities & KNOWN_MASK)];
+    }
+
+    // 비트마스크에 해당하는 공유 scope 문자열
+    public static String scopeOf(long authorities) {
+        return SCOPES[(int) (authorities & KNOWN_MASK)];
+    }
+
+    private static String[] createScopes() {
+        String[] scopes = new String[SETS.length];
+        for (int mask = 0; mask < scopes.length; mask++) {
+            StringJoiner scope = new StringJoiner(" ");
+            SETS[mask].forEach(authority -> scope.add(authority.getAuthority()));
+            scopes[mask] = scope.toString();
+        }
+        return scopes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<GrantedAuthority>[] createSets() {
+        GrantedAuthority[] granted = new GrantedAuthority[AUTHORITIES.length];
+        for (Authority authority : AUTHORITIES) {
+            granted[authority.ordinal()] = new SimpleGrantedAuthority(authority.name());
+        }
+        List<GrantedAuthority>[] sets = new List[(int) KNOWN_MASK + 1];
+        for (int mask = 0; mask < sets.length; mask++) {
+            List<GrantedAuthority> set = new ArrayList<>();
+            for (Authority authority : AUTHORITIES) {
+                if (authority.isGranted(mask)) {
+                    set.add(granted[authority.ordinal()]);
+                }
+            }
+            sets[mask] = List.copyOf(set);
+        }
+        return sets;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.springboot_springsecurity_jwt.util;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 토큰 ID(jti), 세션 ID 생성 유틸
+ * UUID 문자열(36자)보다 짧은 URL-safe Base64 문자열을 생성하여 Redis key/value 크기를 줄임
+ */
+public final class TokenIds {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private TokenIds() {
+    }
+
+    // 토큰 고유 ID :: 128비트, 22자
+    public static String newTokenId() {
+        return newId(16);
+    }
+
+    // 세션 ID :: 72비트, 12자 (회원 한 명의 세션 사이에서만 구분되면 충분)
+    public static String newSessionId() {
+        return newId(9);
+    }
+
+    private static String newId(int bytes) {
+        byte[] random = new byte[bytes];
+        RANDOM.nextBytes(random);
+        return ENCODER.encodeToString(random);
+    }
+}
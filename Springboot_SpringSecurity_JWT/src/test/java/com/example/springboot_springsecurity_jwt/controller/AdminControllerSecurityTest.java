@@ -0,0 +1,94 @@
+package com.example.springboot_springsecurity_jwt.controller;
+
+import com.example.springboot_springsecurity_jwt.dto.AuthorityUpdateRequest;
+import com.example.springboot_springsecurity_jwt.dto.RevokeTokensRequest;
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import com.example.springboot_springsecurity_jwt.service.AdminService;
+import com.example.springboot_springsecurity_jwt.service.CacheStatsService;
+import com.example.springboot_springsecurity_jwt.service.MemberExportService;
+import com.example.springboot_springsecurity_jwt.service.MemberImportService;
+import com.example.springboot_springsecurity_jwt.service.TokenAuthentication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AdminController 의 작업별 세부 권한(@PreAuthorize) 확인
+ * 인증 정보는 필터와 같이 AccessToken 의 권한 비트마스크로 만든 TokenAuthentication 사용
+ */
+@SpringJUnitConfig
+class AdminControllerSecurityTest {
+
+    @Configuration
+    @EnableMethodSecurity
+    @Import(AdminController.class)
+    static class Config {
+    }
+
+    @Autowired
+    private AdminController adminController;
+
+    @MockitoBean
+    private AdminService adminService;
+    @MockitoBean
+    private MemberImportService memberImportService;
+    @MockitoBean
+    private MemberExportService memberExportService;
+    @MockitoBean
+    private CacheStatsService cacheStatsService;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("관리자는 모든 작업 가능")
+    void adminCanCallEveryEndpoint() {
+        authenticate(Authority.ADMIN);
+
+        assertThatCode(() -> {
+            adminController.revokeRefreshTokens(new RevokeTokensRequest());
+            adminController.exportMembers("ndjson", new MockHttpServletResponse());
+            adminController.getCacheStats();
+            adminController.updateAuthorities(1L, new AuthorityUpdateRequest());
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("세부 권한이 없으면 ROLE_ADMIN 이어도 거부")
+    void adminRoleAloneIsDenied() {
+        authenticate(Authority.maskOf(Authority.ROLE_USER, Authority.ROLE_ADMIN));
+
+        assertThatThrownBy(() -> adminController.revokeRefreshTokens(new RevokeTokensRequest())).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> adminController.exportMembers("ndjson", new MockHttpServletResponse())).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> adminController.getCacheStats()).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> adminController.updateAuthorities(1L, new AuthorityUpdateRequest())).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("작업에 필요한 세부 권한만 있으면 해당 작업만 가능")
+    void eachEndpointRequiresItsAuthority() {
+        authenticate(Authority.maskOf(Authority.ROLE_ADMIN, Authority.CACHE_READ));
+
+        assertThatCode(() -> adminController.getCacheStats()).doesNotThrowAnyException();
+        assertThatThrownBy(() -> adminController.updateAuthorities(1L, new AuthorityUpdateRequest())).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> adminController.revokeRefreshTokens(new RevokeTokensRequest())).isInstanceOf(AccessDeniedException.class);
+    }
+
+    private void authenticate(long authorities) {
+        SecurityContextHolder.getContext().setAuthentication(new TokenAuthentication("1", "token", authorities, null));
+    }
+}
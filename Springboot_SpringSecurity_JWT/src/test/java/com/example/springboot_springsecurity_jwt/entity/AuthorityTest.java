@@ -0,0 +1,58 @@
+package com.example.springboot_springsecurity_jwt.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Authority 비트마스크 변환 확인
+ */
+class AuthorityTest {
+
+    @Test
+    @DisplayName("저장된 값의 의미가 바뀌지 않도록 상수 순서(비트 위치)를 고정")
+    void bitPositionsAreStable() {
+        assertThat(Arrays.stream(Authority.values()).map(Enum::name).toList()).containsExactly(
+                "ROLE_USER", "ROLE_ADMIN", "MEMBER_WRITE", "MEMBER_IMPORT",
+                "MEMBER_EXPORT", "TOKEN_REVOKE", "CACHE_READ", "MEMBER_READ");
+        assertThat(Authority.ROLE_USER.mask()).isEqualTo(1L);
+        assertThat(Authority.MEMBER_READ.mask()).isEqualTo(1L << 7);
+    }
+
+    @Test
+    @DisplayName("권한 집합 -> 비트마스크 -> 권한 집합 변환 결과가 같음")
+    void maskRoundTrip() {
+        List<EnumSet<Authority>> sets = List.of(
+                EnumSet.noneOf(Authority.class),
+                EnumSet.of(Authority.ROLE_USER),
+                EnumSet.of(Authority.ROLE_ADMIN, Authority.MEMBER_IMPORT, Authority.CACHE_READ),
+                EnumSet.allOf(Authority.class));
+
+        for (EnumSet<Authority> set : sets) {
+            long mask = Authority.maskOf(set);
+            EnumSet<Authority> granted = EnumSet.noneOf(Authority.class);
+            for (Authority authority : Authority.values()) {
+                if (authority.isGranted(mask)) {
+                    granted.add(authority);
+                }
+            }
+            assertThat(granted).isEqualTo(set);
+            assertThat(Authority.maskOf(set.toArray(Authority[]::new))).isEqualTo(mask);
+        }
+    }
+
+    @Test
+    @DisplayName("일반 회원은 ROLE_USER 만, 관리자는 모든 권한")
+    void userAndAdminMasks() {
+        assertThat(Authority.USER).isEqualTo(Authority.ROLE_USER.mask());
+        for (Authority authority : Authority.values()) {
+            assertThat(authority.isGranted(Authority.ADMIN)).isTrue();
+            assertThat(authority.isGranted(Authority.USER)).isEqualTo(authority == Authority.ROLE_USER);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.springboot_springsecurity_jwt.filter;
+
+import com.example.springboot_springsecurity_jwt.service.RateLimitService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * LoginRateLimitFilter 의 429(Retry-After), 413 응답과 본문 재사용 확인
+ */
+class LoginRateLimitFilterTest {
+
+    private static final String BODY = "{\"email\":\"a@b.c\",\"password\":\"password\"}";
+
+    private final RateLimitService rateLimitService = mock(RateLimitService.class);
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(rateLimitService);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final MockFilterChain chain = new MockFilterChain();
+
+    @BeforeEach
+    void setUp() {
+        when(rateLimitService.getMaxBodyBytes()).thenReturn(4096);
+        when(rateLimitService.extractEmail(any())).thenReturn("a@b.c");
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 429 와 초 단위로 올림한 Retry-After 로 응답")
+    void rejectsWithRetryAfter() throws Exception {
+        when(rateLimitService.tryAcquire(eq("login"), anyString(), eq("a@b.c"))).thenReturn(1500L);
+
+        filter.doFilter(loginRequest(BODY), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("허용되면 컨트롤러가 본문을 다시 읽을 수 있도록 요청을 전달")
+    void passesBodyThrough() throws Exception {
+        when(rateLimitService.tryAcquire(eq("login"), anyString(), eq("a@b.c"))).thenReturn(0L);
+
+        filter.doFilter(loginRequest(BODY), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("본문이 최대 크기를 넘으면 읽지 않고 413 으로 응답")
+    void rejectsLargeBody() throws Exception {
+        when(rateLimitService.getMaxBodyBytes()).thenReturn(16);
+
+        filter.doFilter(loginRequest(BODY), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        assertThat(chain.getRequest()).isNull();
+        verify(rateLimitService, never()).tryAcquire(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 요청은 확인하지 않고 전달")
+    void skipsOtherRequests() throws Exception {
+        RateLimitService unused = mock(RateLimitService.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/member/logout");
+        request.setServletPath("/api/member/logout");
+
+        new LoginRateLimitFilter(unused).doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(unused);
+    }
+
+    private MockHttpServletRequest loginRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/member/login");
+        request.setServletPath("/api/member/login");
+        request.setRemoteAddr("127.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.dto.MemberFileFormat;
+import com.example.springboot_springsecurity_jwt.dto.SignupRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MemberImportService 의 CSV 파싱, 값 검증과 실패한 행(형식, 검증, 중복) 기록 확인
+ * DB 는 JdbcTemplate mock 으로 대신하고, 이미 가입된 email 은 taken@a.com 하나로 가정
+ */
+class MemberImportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+    private final MemberImportService memberImportService =
+            new MemberImportService(jdbcTemplate, transactionTemplate, passwordHashingService, objectMapper, 1000);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ResultSet taken = mock(ResultSet.class);
+        when(taken.getString(1)).thenReturn("TAKEN@a.com");
+        doAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments(); // sql, handler, email...
+            for (int i = 2; i < arguments.length; i++) {
+                if ("taken@a.com".equalsIgnoreCase((String) arguments[i])) {
+                    invocation.<RowCallbackHandler>getArgument(1).processRow(taken);
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(passwordHashingService.encodeAll(anyList())).thenAnswer(invocation -> {
+            List<String> encoded = new ArrayList<>();
+            invocation.<List<String>>getArgument(0).forEach(password -> encoded.add("{noop}" + password));
+            return encoded;
+        });
+    }
+
+    @Test
+    @DisplayName("CSV 행을 email, password, name 으로 파싱 (큰따옴표와 \"\" 이스케이프 지원)")
+    void parseCsv() {
+        SignupRequest member = memberImportService.parseCsv(" a@a.com ,\"p,w\"\"d\", \"Kim, A\" ");
+
+        assertThat(member.getEmail()).isEqualTo("a@a.com");
+        assertThat(member.getPassword()).isEqualTo("p,w\"d");
+        assertThat(member.getName()).isEqualTo("Kim, A");
+    }
+
+    @Test
+    @DisplayName("값이 세 개가 아니거나 따옴표가 닫히지 않은 CSV 행은 거부")
+    void parseCsvRejectsMalformedLine() {
+        assertThatThrownBy(() -> memberImportService.parseCsv("a@a.com,pw")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberImportService.parseCsv("a@a.com,pw,name,extra")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberImportService.parseCsv("a@a.com,\"pw,name")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("필수 값과 컬럼 길이를 검증")
+    void validate() {
+        assertThat(memberImportService.validate(member("a@a.com", "pw", "name"))).isNull();
+        assertThat(memberImportService.validate(member("a@a.com", "", "name"))).isEqualTo("email, password, name 은 필수입니다.");
+        assertThat(memberImportService.validate(member("a".repeat(21), "pw", "name"))).isEqualTo("email 은 20자를 넘을 수 없습니다.");
+        assertThat(memberImportService.validate(member("a@a.com", "pw", "n".repeat(101)))).isEqualTo("name 은 100자를 넘을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("형식 오류, 검증 실패, 배치 안의 중복, 이미 가입된 email 을 줄 번호와 함께 기록하고 마지막 줄에 요약")
+    void reportsFailedRows() throws IOException {
+        String csv = """
+                email,password,name
+                a@a.com,pw,Alice
+                "b@a.com","p,w","Bob"
+                bad line
+                c@a.com,,Carl
+                A@A.com,pw,Dup
+                taken@a.com,pw,Taken
+                """;
+
+        List<JsonNode> lines = importCsv(csv);
+
+        assertThat(lines).hasSize(5);
+        assertError(lines.get(0), 4, null, "행 형식이 올바르지 않습니다.");
+        assertError(lines.get(1), 5, "c@a.com", "email, password, name 은 필수입니다.");
+        assertError(lines.get(2), 6, "A@A.com", "이미 존재하는 이메일입니다.");
+        assertError(lines.get(3), 7, "taken@a.com", "이미 존재하는 이메일입니다.");
+        assertThat(lines.get(4).get("imported").asLong()).isEqualTo(2);
+        assertThat(lines.get(4).get("failed").asLong()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 한 행씩 다시 저장하고 중복과 다른 오류를 구분하여 기록")
+    void reportsRowsFailedOnInsert() throws IOException {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataIntegrityViolationException("batch"));
+        when(jdbcTemplate.update(anyString(), eq("dup@a.com"), any(), any())).thenThrow(new DataIntegrityViolationException("dup",
+                new SQLException("Duplicate entry 'dup@a.com' for key 'uk_member_email'", "23000", 1062)));
+        when(jdbcTemplate.update(anyString(), eq("null@a.com"), any(), any())).thenThrow(new DataIntegrityViolationException("null",
+                new SQLException("Column 'name' cannot be null", "23000", 1048)));
+
+        List<JsonNode> lines = importCsv("""
+                ok@a.com,pw,Ok
+                dup@a.com,pw,Dup
+                null@a.com,pw,Null
+                """);
+
+        assertThat(lines).hasSize(3);
+        assertError(lines.get(0), 2, "dup@a.com", "이미 존재하는 이메일입니다.");
+        assertError(lines.get(1), 3, "null@a.com", "저장할 수 없는 값입니다.");
+        assertThat(lines.get(2).get("imported").asLong()).isEqualTo(1);
+        assertThat(lines.get(2).get("failed").asLong()).isEqualTo(2);
+    }
+
+    private List<JsonNode> importCsv(String csv) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        memberImportService.importMembers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), MemberFileFormat.CSV, output);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private void assertError(JsonNode error, long line, String email, String message) {
+        assertThat(error.get("line").asLong()).isEqualTo(line);
+        assertThat(error.get("email").isNull() ? null : error.get("email").asText()).isEqualTo(email);
+        assertThat(error.get("message").asText()).isEqualTo(message);
+    }
+
+    private SignupRequest member(String email, String password, String name) {
+        SignupRequest member = new SignupRequest();
+        member.setEmail(email);
+        member.setPassword(password);
+        member.setName(name);
+        return member;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.exception.RedisUnavailableException;
+import com.example.springboot_springsecurity_jwt.support.EmbeddedRedisExtension;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RateLimitService 의 token bucket Lua 스크립트와 IP, email bucket 확인(내장 Redis), Redis 장애 시 동작 확인
+ */
+class RateLimitServiceTest {
+
+    private static final String KEY = RateLimitService.bucketKey("login", "ip", "127.0.0.1");
+    private static final String EMAIL_KEY = RateLimitService.bucketKey("login", "email", "a@b.c");
+    // 분당 1개 충전 (ms 당 충전량)
+    private static final String ONE_PER_MINUTE = String.valueOf(1 / 60000.0);
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static RedisService redisService;
+
+    private final StringRedisTemplate redisTemplate = redis.getRedisTemplate();
+
+    // IP 는 20개, email 은 1개까지 허용
+    private final RateLimitService rateLimitService = new RateLimitService(redisService, null, new ObjectMapper(),
+            true, 20, 20, 1, 1, 4096);
+
+    @BeforeAll
+    static void createRedisService() {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(redis.getConnectionFactory());
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        redisService = new RedisService(template, template, CircuitBreaker.ofDefaults("redis"), new SimpleMeterRegistry());
+    }
+
+    @BeforeEach
+    void clear() {
+        redisTemplate.delete(List.of(KEY, EMAIL_KEY));
+    }
+
+    @Test
+    @DisplayName("용량만큼 허용한 뒤 거절하고 다음 토큰이 충전될 때까지의 대기 시간을 반환")
+    void tokenBucketRejectsWhenEmpty() {
+        assertThat(acquire("2")).isZero();
+        assertThat(acquire("2")).isZero();
+
+        assertThat(acquire("2")).isPositive().isLessThanOrEqualTo(60000);
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 토큰을 차감하지 않고 bucket 만료 시간을 설정")
+    void tokenBucketSetsExpire() {
+        acquire("1");
+        String tokens = (String) redisTemplate.opsForHash().get(KEY, "t");
+
+        assertThat(acquire("1")).isPositive();
+        assertThat(redisTemplate.opsForHash().get(KEY, "t")).isEqualTo(tokens);
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("bucket key 는 key 마다 다른 hash tag 를 사용")
+    void bucketKeyHasOwnHashTag() {
+        assertThat(KEY).isEqualTo("RL:{login:ip:127.0.0.1}");
+        assertThat(RateLimitService.bucketKey("login", "email", "a@b.c")).isEqualTo("RL:{login:email:a@b.c}");
+    }
+
+    @Test
+    @DisplayName("email 이 없으면 IP bucket 만 확인")
+    void tryAcquireChecksIpBucketOnly() {
+        assertThat(rateLimitService.tryAcquire("login", "127.0.0.1", null)).isZero();
+
+        assertThat(redisTemplate.hasKey(KEY)).isTrue();
+        assertThat(redisTemplate.hasKey(EMAIL_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("IP bucket 과 정규화한 email 의 bucket 을 함께 확인하고, 한쪽이라도 거절하면 대기 시간 반환")
+    void tryAcquireChecksBothBuckets() {
+        assertThat(rateLimitService.tryAcquire("login", "127.0.0.1", " A@B.c ")).isZero();
+
+        assertThat(rateLimitService.tryAcquire("login", "127.0.0.1", "a@b.c")).isPositive().isLessThanOrEqualTo(60000);
+        // 두 bucket 을 한 번에 확인하므로 email 에서 거절되어도 IP 토큰은 차감됨
+        assertThat(Double.parseDouble((String) redisTemplate.opsForHash().get(KEY, "t"))).isLessThan(19);
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없으면 요청을 허용")
+    void tryAcquireFailsOpen() {
+        RedisService unavailable = mock(RedisService.class);
+        when(unavailable.executePipelined(any())).thenThrow(new RedisUnavailableException("unavailable"));
+        RateLimitService failingOpen = new RateLimitService(unavailable, null, new ObjectMapper(), true, 20, 20, 1, 1, 4096);
+
+        assertThat(failingOpen.tryAcquire("login", "127.0.0.1", "a@b.c")).isZero();
+        assertThat(failingOpen.tryAcquire("login", "127.0.0.1", "a@b.c")).isZero();
+    }
+
+    @Test
+    @DisplayName("본문의 email 만 읽고, 형식이 잘못되었으면 null")
+    void extractEmail() {
+        assertThat(rateLimitService.extractEmail("{\"email\":\"a@b.c\",\"password\":\"x\"}".getBytes(StandardCharsets.UTF_8))).isEqualTo("a@b.c");
+        assertThat(rateLimitService.extractEmail("{\"email\":1}".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(rateLimitService.extractEmail("not json".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(rateLimitService.extractEmail(new byte[0])).isNull();
+    }
+
+    private long acquire(String capacity) {
+        return redisTemplate.execute(RateLimitService.TOKEN_BUCKET_SCRIPT, List.of(KEY), capacity, ONE_PER_MINUTE);
+    }
+}
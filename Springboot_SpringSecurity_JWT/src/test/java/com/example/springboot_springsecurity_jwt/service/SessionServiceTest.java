@@ -0,0 +1,135 @@
+package com.example.springboot_springsecurity_jwt.service;
+
+import com.example.springboot_springsecurity_jwt.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionService 의 세션 저장 형식과 Lua 스크립트(생성, 사용 시각 갱신)를 내장 Redis 로 확인
+ */
+class SessionServiceTest {
+
+    private static final String KEY = SessionService.sessionKey(1L);
+    private static final long IDLE_SECONDS = TokenService.REFRESH_TOKEN_EXPIRE_TIME / 1000;
+    private static final String TTL_MILLIS = String.valueOf(TokenService.REFRESH_TOKEN_EXPIRE_TIME);
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private final StringRedisTemplate redisTemplate = redis.getRedisTemplate();
+    private final long now = Instant.now().getEpochSecond();
+
+    @BeforeEach
+    void clear() {
+        redisTemplate.delete(KEY);
+    }
+
+    @Test
+    @DisplayName("세션 생성 시 유휴 만료된 세션과 형식이 잘못된 세션을 정리")
+    void createSessionPrunesExpiredSessions() {
+        redisTemplate.opsForHash().put(KEY, "expired", "jti1:0:" + (now - IDLE_SECONDS - 1));
+        redisTemplate.opsForHash().put(KEY, "broken", "jti2");
+        redisTemplate.opsForHash().put(KEY, "live", "jti3:" + now + ":" + now);
+
+        createSession("new", "jti4:" + now + ":" + now, 10);
+
+        assertThat(sessions().keySet()).containsExactlyInAnyOrder("live", "new");
+    }
+
+    @Test
+    @DisplayName("세션 수가 최대치이면 가장 오래 사용하지 않은 세션부터 제거")
+    void createSessionCapsSessions() {
+        redisTemplate.opsForHash().put(KEY, "oldest", "jti1:0:" + (now - 30));
+        redisTemplate.opsForHash().put(KEY, "older", "jti2:0:" + (now - 20));
+        redisTemplate.opsForHash().put(KEY, "recent", "jti3:0:" + (now - 10));
+
+        createSession("new", "jti4:" + now + ":" + now, 3);
+
+        assertThat(sessions().keySet()).containsExactlyInAnyOrder("older", "recent", "new");
+    }
+
+    @Test
+    @DisplayName("세션 생성 시 해시 만료 시간을 RefreshToken 유효 기간으로 설정")
+    void createSessionSetsExpire() {
+        createSession("new", "jti1:" + now + ":" + now, 10);
+
+        Long ttl = redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(TokenService.REFRESH_TOKEN_EXPIRE_TIME);
+    }
+
+    @Test
+    @DisplayName("살아있는 세션의 마지막 사용 시각을 갱신하고 만료 시간을 연장")
+    void touchSessionUpdatesLastUsed() {
+        redisTemplate.opsForHash().put(KEY, "session", "jti1:100:" + (now - 60));
+
+        String touched = touchSession("session", now);
+
+        assertThat(touched).isEqualTo("jti1:100:" + now);
+        assertThat(sessions()).containsEntry("session", touched);
+        assertThat(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("없는 세션은 갱신하지 않음")
+    void touchSessionReturnsNullForMissingSession() {
+        assertThat(touchSession("missing", now)).isNull();
+    }
+
+    @Test
+    @DisplayName("유휴 만료된 세션은 갱신하지 않고 삭제")
+    void touchSessionDeletesExpiredSession() {
+        redisTemplate.opsForHash().put(KEY, "session", "jti1:0:" + (now - IDLE_SECONDS - 1));
+
+        assertThat(touchSession("session", now)).isNull();
+        assertThat(sessions()).doesNotContainKey("session");
+    }
+
+    @Test
+    @DisplayName("세션 값이 없거나 유휴 만료되었거나 RefreshToken jti 가 다르면 살아있는 세션이 아님")
+    void isLiveSession() {
+        String value = "jti1:" + now + ":" + now;
+
+        assertThat(SessionService.isLiveSession(value, null, now)).isTrue();
+        assertThat(SessionService.isLiveSession(value, "jti1", now)).isTrue();
+        assertThat(SessionService.isLiveSession(null, null, now)).isFalse();
+        assertThat(SessionService.isLiveSession(value, "jti2", now)).isFalse();
+        assertThat(SessionService.isLiveSession(value, "jti", now)).isFalse(); // 앞부분만 같은 jti
+        assertThat(SessionService.isLiveSession(value, null, now + IDLE_SECONDS + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("세션 값에서 생성 시각과 마지막 사용 시각을 읽음")
+    void parseSession() {
+        SessionService.Session session = SessionService.Session.parse("session", "jti1:100:200");
+
+        assertThat(session.sessionId()).isEqualTo("session");
+        assertThat(session.createdAt()).isEqualTo(100);
+        assertThat(session.lastUsedAt()).isEqualTo(200);
+        assertThat(session.isExpired(200 + IDLE_SECONDS)).isFalse();
+        assertThat(session.isExpired(200 + IDLE_SECONDS + 1)).isTrue();
+    }
+
+    private void createSession(String sessionId, String value, int maxSessions) {
+        redisTemplate.execute(SessionService.CREATE_SESSION_SCRIPT, List.of(KEY),
+                sessionId, value, TTL_MILLIS, String.valueOf(maxSessions), String.valueOf(now), String.valueOf(IDLE_SECONDS));
+    }
+
+    private String touchSession(String sessionId, long nowSeconds) {
+        return redisTemplate.execute(SessionService.TOUCH_SESSION_SCRIPT, List.of(KEY),
+                sessionId, String.valueOf(nowSeconds), TTL_MILLIS, String.valueOf(IDLE_SECONDS));
+    }
+
+    private Map<Object, Object> sessions() {
+        return redisTemplate.opsForHash().entries(KEY);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.springboot_springsecurity_jwt.support;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 테스트 클래스마다 빈 포트에 내장 Redis 를 띄우고 연결을 제공하는 JUnit 확장
+ * static 필드에 @RegisterExtension 으로 등록하며, 테스트 클래스의 @BeforeAll 보다 먼저 시작됨
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback, AfterAllCallback {
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    public LettuceConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    public StringRedisTemplate getRedisTemplate() {
+        return redisTemplate;
+    }
+}
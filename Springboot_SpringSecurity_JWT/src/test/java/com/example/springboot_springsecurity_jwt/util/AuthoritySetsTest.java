@@ -0,0 +1,64 @@
+package com.example.springboot_springsecurity_jwt.util;
+
+import com.example.springboot_springsecurity_jwt.entity.Authority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AuthoritySets 의 비트마스크 -> 권한 목록, scope 변환 확인
+ */
+class AuthoritySetsTest {
+
+    private static final int AUTHORITY_COUNT = Authority.values().length;
+
+    @Test
+    @DisplayName("모든 비트마스크 조합이 해당 비트의 권한 목록으로 변환됨")
+    void ofMatchesEveryMask() {
+        for (long mask = 0; mask < (1L << AUTHORITY_COUNT); mask++) {
+            List<GrantedAuthority> expected = new ArrayList<>();
+            for (Authority authority : Authority.values()) {
+                if (authority.isGranted(mask)) {
+                    expected.add(new SimpleGrantedAuthority(authority.name()));
+                }
+            }
+            assertThat(AuthoritySets.of(mask)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("이 노드가 모르는 비트는 무시")
+    void ofIgnoresUnknownBits() {
+        long unknownBits = (1L << AUTHORITY_COUNT) | (1L << 40) | Long.MIN_VALUE;
+
+        assertThat(AuthoritySets.of(Authority.USER | unknownBits)).isSameAs(AuthoritySets.of(Authority.USER));
+        assertThat(AuthoritySets.of(unknownBits)).isEmpty();
+        assertThat(AuthoritySets.scopeOf(Authority.ADMIN | unknownBits)).isEqualTo(AuthoritySets.scopeOf(Authority.ADMIN));
+    }
+
+    @Test
+    @DisplayName("같은 비트마스크는 같은 불변 목록을 공유")
+    void ofReturnsSharedImmutableList() {
+        List<GrantedAuthority> authorities = AuthoritySets.of(Authority.ADMIN);
+
+        assertThat(AuthoritySets.of(Authority.ADMIN)).isSameAs(authorities);
+        assertThatThrownBy(() -> authorities.add(new SimpleGrantedAuthority("ROLE_ROOT")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("scope 는 권한 이름을 비트 순서대로 공백으로 구분")
+    void scopeOf() {
+        assertThat(AuthoritySets.scopeOf(0)).isEmpty();
+        assertThat(AuthoritySets.scopeOf(Authority.USER)).isEqualTo("ROLE_USER");
+        assertThat(AuthoritySets.scopeOf(Authority.maskOf(Authority.CACHE_READ, Authority.ROLE_USER)))
+                .isEqualTo("ROLE_USER CACHE_READ");
+    }
+}